@@ -2,10 +2,12 @@ package se.sowl.progapi.common;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import se.sowl.progapi.post.exception.PostException;
 import se.sowl.progdomain.user.InvalidNicknameException;
 
 
@@ -21,6 +23,12 @@ public class RestControllerAdvice {
         return CommonResponse.fail(e.getMessage());
     }
 
+    @ExceptionHandler(PostException.class)
+    public ResponseEntity<CommonResponse<Void>> handlePostException(PostException e) {
+        log.error("PostException", e);
+        return new ResponseEntity<>(CommonResponse.fail(e.getMessage()), e.getStatus());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public CommonResponse<Void> handleRuntimeException(RuntimeException e) {
@@ -0,0 +1,66 @@
+package se.sowl.progapi.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import se.sowl.progapi.common.transaction.AfterCommitRedisExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 노드마다 들고 있는 로컬 캐시를 Redis pub/sub 으로 함께 비운다.
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+    static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AfterCommitRedisExecutor afterCommitRedisExecutor;
+    private final Map<String, Consumer<String>> evictors = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            AfterCommitRedisExecutor afterCommitRedisExecutor
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.afterCommitRedisExecutor = afterCommitRedisExecutor;
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public void register(String cacheName, Consumer<String> evictor) {
+        evictors.put(cacheName, evictor);
+    }
+
+    public void publish(String cacheName, String key) {
+        // 트랜잭션 안이라면 커밋된 뒤에 비워야 커밋 전 값을 다시 캐시하지 않는다.
+        afterCommitRedisExecutor.afterCommit(() -> {
+            // 메시지가 돌아오기 전에 이 노드의 캐시부터 비운다.
+            evict(cacheName, key);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, cacheName + SEPARATOR + key);
+        });
+    }
+
+    private void onMessage(String payload) {
+        int separatorIndex = payload.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            log.warn("알 수 없는 캐시 무효화 메시지입니다. payload={}", payload);
+            return;
+        }
+        evict(payload.substring(0, separatorIndex), payload.substring(separatorIndex + 1));
+    }
+
+    private void evict(String cacheName, String key) {
+        Consumer<String> evictor = evictors.get(cacheName);
+        if (evictor != null) {
+            evictor.accept(key);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package se.sowl.progapi.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 스케줄러 스레드 풀 크기는 spring.task.scheduling.* 설정으로 제한한다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,40 @@
+package se.sowl.progapi.common.scheduling;
+
+import java.time.Duration;
+
+// 실행 중인 작업이 들고 있는 잠금. 잠금 시간보다 오래 걸린 작업이 다른 노드와 같은 데이터를 다시 처리하지 않도록,
+// 쓰기 묶음마다 renew() 로 잠금을 확인하고 연장한다.
+public class JobLease {
+    private static final JobLease UNGUARDED = new JobLease(null, null, Duration.ZERO);
+
+    private final RedisLeaseLock leaseLock;
+    private final RedisLeaseLock.Lease lease;
+    private final Duration leaseTime;
+
+    JobLease(RedisLeaseLock leaseLock, RedisLeaseLock.Lease lease, Duration leaseTime) {
+        this.leaseLock = leaseLock;
+        this.lease = lease;
+        this.leaseTime = leaseTime;
+    }
+
+    // 스케줄러를 거치지 않고 직접 실행할 때 쓴다.
+    public static JobLease unguarded() {
+        return UNGUARDED;
+    }
+
+    // 잠금이 다른 노드로 넘어갔다면 예외를 던져 작업을 멈춘다.
+    public void renew() {
+        if (lease == null) {
+            return;
+        }
+        if (!leaseLock.extend(lease, leaseTime)) {
+            throw new LeaseLostException(lease);
+        }
+    }
+
+    public static class LeaseLostException extends IllegalStateException {
+        public LeaseLostException(RedisLeaseLock.Lease lease) {
+            super("작업 잠금을 잃었습니다. job=" + lease.name() + ", token=" + lease.token());
+        }
+    }
+}
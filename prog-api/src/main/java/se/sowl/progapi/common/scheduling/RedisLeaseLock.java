@@ -0,0 +1,56 @@
+package se.sowl.progapi.common.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+    private static final String LOCK_PRESET = "scheduler:lock:";
+    private static final String FENCING_TOKEN_PRESET = "scheduler:fencing:";
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_lease.lua"), Long.class);
+    private static final RedisScript<Long> EXTEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/extend_lease.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<Lease> tryAcquire(String name, Duration leaseTime) {
+        // 토큰은 계속 증가하므로 만료된 뒤 늦게 끝난 노드가 새 주인의 잠금을 풀지 못한다.
+        Long token = redisTemplate.opsForValue().increment(FENCING_TOKEN_PRESET + name);
+        if (token == null) {
+            return Optional.empty();
+        }
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PRESET + name, token.toString(), leaseTime);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(new Lease(name, token)) : Optional.empty();
+    }
+
+    // 작업이 쓰기 전에 호출해서, 잠금이 아직 자기 것인지 확인하고 만료를 미룬다.
+    public boolean extend(Lease lease, Duration leaseTime) {
+        Long extended = redisTemplate.execute(
+                EXTEND_SCRIPT,
+                List.of(LOCK_PRESET + lease.name()),
+                String.valueOf(lease.token()),
+                String.valueOf(leaseTime.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    public boolean release(Lease lease, Duration keepFor) {
+        Long released = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(LOCK_PRESET + lease.name()),
+                String.valueOf(lease.token()),
+                String.valueOf(Math.max(keepFor.toMillis(), 0)));
+        return released != null && released == 1L;
+    }
+
+    public record Lease(String name, long token) {
+    }
+}
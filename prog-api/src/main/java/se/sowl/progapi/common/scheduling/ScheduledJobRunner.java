@@ -0,0 +1,98 @@
+package se.sowl.progapi.common.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+    private final RedisLeaseLock leaseLock;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobMetrics> jobMetrics = new ConcurrentHashMap<>();
+
+    // 여러 노드 중 잠금을 잡은 한 곳에서만 작업을 실행한다.
+    // 작업이 빨리 끝나도 lockAtLeastFor 동안은 잠금을 유지해서 같은 주기에 다른 노드가 다시 실행하지 않게 한다.
+    public boolean run(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+        return runWithLease(jobName, lockAtMostFor, lockAtLeastFor, lease -> job.run());
+    }
+
+    // 여러 번에 나눠 쓰는 작업은 쓰기 전마다 lease.renew() 를 불러서, 잠금을 잃으면 남은 쓰기를 하지 않고 멈춘다.
+    public boolean runWithLease(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, Consumer<JobLease> job) {
+        JobMetrics metrics = metricsOf(jobName);
+        Optional<RedisLeaseLock.Lease> lease = leaseLock.tryAcquire(jobName, lockAtMostFor);
+        if (lease.isEmpty()) {
+            meterRegistry.counter("scheduled.job.skipped", "job", jobName).increment();
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            job.accept(new JobLease(leaseLock, lease.get(), lockAtMostFor));
+            succeeded = true;
+        } catch (JobLease.LeaseLostException e) {
+            meterRegistry.counter("scheduled.job.lease.lost", "job", jobName).increment();
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            metrics.record(elapsedNanos, succeeded);
+            meterRegistry.timer("scheduled.job.duration", "job", jobName, "outcome", succeeded ? "success" : "failure")
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            releaseQuietly(lease.get(), lockAtLeastFor.minusNanos(elapsedNanos));
+        }
+        return true;
+    }
+
+    private void releaseQuietly(RedisLeaseLock.Lease lease, Duration keepFor) {
+        try {
+            if (!leaseLock.release(lease, keepFor)) {
+                log.warn("작업이 끝나기 전에 잠금이 만료되었습니다. job={}, token={}", lease.name(), lease.token());
+            }
+        } catch (RuntimeException e) {
+            log.error("잠금 해제에 실패했습니다. 만료 시간이 지나면 풀립니다. job={}", lease.name(), e);
+        }
+    }
+
+    private JobMetrics metricsOf(String jobName) {
+        return jobMetrics.computeIfAbsent(jobName, name -> new JobMetrics(name, meterRegistry));
+    }
+
+    private static class JobMetrics {
+        private final AtomicLong lastDurationMillis = new AtomicLong();
+        private final AtomicLong lastSucceeded = new AtomicLong();
+        private final AtomicLong lastFinishedAt = new AtomicLong();
+
+        JobMetrics(String jobName, MeterRegistry meterRegistry) {
+            Gauge.builder("scheduled.job.last.duration", lastDurationMillis, AtomicLong::get)
+                    .tag("job", jobName)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("scheduled.job.last.success", lastSucceeded, AtomicLong::get)
+                    .tag("job", jobName)
+                    .description("마지막 실행이 성공했으면 1, 실패했으면 0")
+                    .register(meterRegistry);
+            Gauge.builder("scheduled.job.last.finished", lastFinishedAt, AtomicLong::get)
+                    .tag("job", jobName)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        void record(long elapsedNanos, boolean succeeded) {
+            lastDurationMillis.set(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            lastSucceeded.set(succeeded ? 1 : 0);
+            lastFinishedAt.set(System.currentTimeMillis() / 1000);
+        }
+    }
+}
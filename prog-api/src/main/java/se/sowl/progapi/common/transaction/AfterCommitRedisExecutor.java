@@ -0,0 +1,89 @@
+package se.sowl.progapi.common.transaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 트랜잭션 안에서 요청된 Redis 변경을 모아 두었다가 커밋된 뒤에 한 번의 파이프라인으로 보낸다.
+// 롤백되면 버리고, 트랜잭션 밖에서 호출하면 바로 실행한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AfterCommitRedisExecutor {
+    private final StringRedisTemplate redisTemplate;
+
+    public void execute(Consumer<StringRedisConnection> command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runPipelined(List.of(command));
+            return;
+        }
+        pendingWork().commands.add(command);
+    }
+
+    // 파이프라인으로 보낼 수 없는 후속 작업(로컬 캐시 비우기, pub/sub 등)은 Redis 변경이 끝난 뒤에 실행한다.
+    public void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        pendingWork().actions.add(action);
+    }
+
+    private PendingWork pendingWork() {
+        // 동기화 목록은 트랜잭션마다 따로 관리되므로 REQUIRES_NEW 안쪽 트랜잭션과 섞이지 않는다.
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingWork work && work.owner() == this) {
+                return work;
+            }
+        }
+        PendingWork work = new PendingWork();
+        TransactionSynchronizationManager.registerSynchronization(work);
+        return work;
+    }
+
+    private void runPipelined(List<Consumer<StringRedisConnection>> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            commands.forEach(command -> command.accept(stringConnection));
+            return null;
+        });
+    }
+
+    private class PendingWork implements TransactionSynchronization {
+        private final List<Consumer<StringRedisConnection>> commands = new ArrayList<>();
+        private final List<Runnable> actions = new ArrayList<>();
+
+        private AfterCommitRedisExecutor owner() {
+            return AfterCommitRedisExecutor.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            // 이미 커밋된 뒤라 예외를 던져도 되돌릴 수 없다. 어긋난 값은 주기적인 동기화 작업이 바로잡는다.
+            try {
+                runPipelined(commands);
+            } catch (RuntimeException e) {
+                log.warn("커밋 후 Redis 반영에 실패했습니다. commands={}", commands.size(), e);
+            }
+            for (Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.warn("커밋 후 작업을 실행하지 못했습니다.", e);
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package se.sowl.progapi.interest.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import se.sowl.progapi.common.CommonResponse;
+import se.sowl.progapi.interest.dto.InterestCatalog;
 import se.sowl.progapi.interest.dto.UserInterestRequest;
 import se.sowl.progapi.interest.service.InterestService;
 import se.sowl.progapi.interest.service.UserInterestService;
@@ -25,9 +28,13 @@ public class InterestController {
 
     @GetMapping("/list")
     @PreAuthorize("isAuthenticated()")
-    public CommonResponse<List<Interest>> getInterestList() {
-        List<Interest> interestList = interestService.getList();
-        return CommonResponse.ok(interestList);
+    public ResponseEntity<CommonResponse<List<Interest>>> getInterestList() {
+        // If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답된다.
+        InterestCatalog catalog = interestService.getCatalog();
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(CommonResponse.ok(catalog.interests()));
     }
 
     @PutMapping("/user/edit")
@@ -0,0 +1,33 @@
+package se.sowl.progapi.interest.dto;
+
+import org.springframework.util.DigestUtils;
+import se.sowl.progdomain.interest.domain.Interest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 관심사 목록의 불변 스냅샷. ETag 는 내용으로만 계산해서 노드가 달라도 같은 목록이면 같은 값이 나온다.
+public record InterestCatalog(long version, String etag, List<Interest> interests, Map<Long, Interest> interestsById) {
+
+    public static InterestCatalog of(long version, List<Interest> interests) {
+        List<Interest> sorted = interests.stream()
+                .sorted(Comparator.comparing(Interest::getId))
+                .toList();
+        Map<Long, Interest> interestsById = new LinkedHashMap<>();
+        StringBuilder content = new StringBuilder();
+        sorted.forEach(interest -> {
+            interestsById.put(interest.getId(), interest);
+            content.append(interest.getId()).append(':').append(interest.getName()).append('\n');
+        });
+        String etag = "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        return new InterestCatalog(version, etag, sorted, Map.copyOf(interestsById));
+    }
+
+    public Optional<Interest> find(Long interestId) {
+        return Optional.ofNullable(interestsById.get(interestId));
+    }
+}
@@ -1,24 +1,114 @@
 package se.sowl.progapi.interest.service;
 
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import se.sowl.progapi.interest.dto.InterestCatalog;
 import se.sowl.progdomain.interest.domain.Interest;
 import se.sowl.progdomain.interest.repository.InterestRepository;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
+// 관심사는 거의 바뀌지 않으므로 시작할 때 한 번 읽어 메모리에서만 조회한다.
 @Service
-@RequiredArgsConstructor
-public class InterestService {
+public class InterestService implements ApplicationRunner {
     private final InterestRepository interestRepository;
+    // DB 에도 없던 ID 는 잠깐 기억해서 같은 잘못된 ID 로 DB 를 다시 찾지 않는다.
+    private final Cache<Long, Boolean> missingInterestIds;
+    private volatile InterestCatalog catalog;
+
+    public InterestService(
+            InterestRepository interestRepository,
+            @Value("${interest.catalog.missing-id-cache-size:10000}") long missingIdCacheSize,
+            @Value("${interest.catalog.missing-id-ttl-seconds:60}") long missingIdTtlSeconds
+    ) {
+        this.interestRepository = interestRepository;
+        this.missingInterestIds = Caffeine.newBuilder()
+                .maximumSize(missingIdCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(missingIdTtlSeconds))
+                .build();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    @Scheduled(fixedDelay = 300000)
+    public void scheduleRefresh() {
+        refresh();
+    }
+
+    // 내용이 바뀌었을 때만 버전을 올려 새 스냅샷으로 바꾼다.
+    public synchronized InterestCatalog refresh() {
+        InterestCatalog current = catalog;
+        long nextVersion = current == null ? 1 : current.version() + 1;
+        InterestCatalog loaded = InterestCatalog.of(nextVersion, interestRepository.findAll());
+        if (current == null || !current.etag().equals(loaded.etag())) {
+            catalog = loaded;
+            missingInterestIds.invalidateAll();
+        }
+        return catalog;
+    }
+
+    // 목록에 없는 ID 는 스냅샷 이후에 추가된 관심사일 수 있다.
+    // 클라이언트가 보낸 잘못된 ID 마다 전체를 다시 읽지 않도록, 기본 키로 있는지만 확인하고 실제로 추가된 경우에만 다시 읽는다.
+    private InterestCatalog refreshIfAdded(List<Long> unknownIds) {
+        List<Long> candidates = unknownIds.stream()
+                .filter(interestId -> interestId != null && missingInterestIds.getIfPresent(interestId) == null)
+                .toList();
+        if (candidates.isEmpty()) {
+            return getCatalog();
+        }
+        List<Long> foundIds = interestRepository.findAllById(candidates).stream()
+                .map(Interest::getId)
+                .toList();
+        candidates.stream()
+                .filter(interestId -> !foundIds.contains(interestId))
+                .forEach(interestId -> missingInterestIds.put(interestId, Boolean.TRUE));
+        return foundIds.isEmpty() ? getCatalog() : refresh();
+    }
+
+    public InterestCatalog getCatalog() {
+        InterestCatalog current = catalog;
+        return current != null ? current : refresh();
+    }
 
     public List<Interest> getList() {
-        return interestRepository.findAll();
+        return getCatalog().interests();
+    }
+
+    public Optional<Interest> getInterest(Long interestId) {
+        Optional<Interest> interest = getCatalog().find(interestId);
+        return interest.isPresent() ? interest : refreshIfAdded(List.of(interestId)).find(interestId);
+    }
+
+    // findAllById 처럼 없는 ID 는 빼고 중복 없이 돌려주므로, 호출한 쪽에서 개수를 비교해 검증한다.
+    public List<Interest> getInterests(Collection<Long> interestIds) {
+        InterestCatalog snapshot = getCatalog();
+        List<Long> unknownIds = interestIds.stream()
+                .filter(interestId -> !snapshot.interestsById().containsKey(interestId))
+                .distinct()
+                .toList();
+        InterestCatalog current = unknownIds.isEmpty() ? snapshot : refreshIfAdded(unknownIds);
+        List<Interest> interests = new ArrayList<>();
+        for (Long interestId : new LinkedHashSet<>(interestIds)) {
+            current.find(interestId).ifPresent(interests::add);
+        }
+        return interests;
     }
 
     public Optional<Interest> getPostInerest(Long postId){
-        return interestRepository.findById(postId);
+        return getInterest(postId);
     }
 }
@@ -7,7 +7,6 @@ import se.sowl.progapi.interest.dto.UserInterestRequest;
 import se.sowl.progapi.user.exception.UserException;
 import se.sowl.progdomain.interest.domain.Interest;
 import se.sowl.progdomain.interest.domain.UserInterest;
-import se.sowl.progdomain.interest.repository.InterestRepository;
 import se.sowl.progdomain.interest.repository.UserInterestRepository;
 import se.sowl.progdomain.user.domain.User;
 import se.sowl.progdomain.user.repository.UserRepository;
@@ -21,7 +20,7 @@ public class UserInterestService {
 
     private final UserInterestRepository userInterestRepository;
     private final UserRepository userRepository;
-    private final InterestRepository interestRepository;
+    private final InterestService interestService;
 
     @Transactional
     public List<UserInterestRequest> getUserInterests(Long userId) {
@@ -29,8 +28,10 @@ public class UserInterestService {
         if (userInterests.isEmpty()) {
             throw new UserException.UserNotExistException();
         }
+        // 관심사 프록시를 초기화하지 않도록 ID 만 꺼내고 이름은 메모리의 관심사 목록에서 찾는다.
         return userInterests.stream()
-                .map(ui -> new UserInterestRequest(ui.getInterest().getId(), ui.getInterest().getName()))
+                .map(ui -> interestService.getInterest(ui.getInterest().getId()).orElseThrow())
+                .map(interest -> new UserInterestRequest(interest.getId(), interest.getName()))
                 .collect(Collectors.toList());
     }
 
@@ -43,7 +44,7 @@ public class UserInterestService {
     }
 
     private List<UserInterest> getUserInterests(List<Long> interestIdList, User user) {
-        List<Interest> interests = interestRepository.findAllById(interestIdList);
+        List<Interest> interests = interestService.getInterests(interestIdList);
         if (interests.size() != interestIdList.size()) {
             throw new IllegalArgumentException("존재하지 않는 관심사 ID가 포함되어 있습니다.");
         }
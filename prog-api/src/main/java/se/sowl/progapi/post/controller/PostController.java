@@ -1,19 +1,30 @@
 package se.sowl.progapi.post.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import se.sowl.progapi.common.CommonResponse;
 import se.sowl.progapi.post.dto.PostResponse;
+import se.sowl.progapi.post.dto.PostSliceResponse;
+import se.sowl.progapi.post.service.FeedService;
+import se.sowl.progapi.post.service.LikeService;
 import se.sowl.progapi.post.service.LikedPostService;
+import se.sowl.progapi.post.service.PostListResponseCache;
 import se.sowl.progapi.post.service.RecentPostService;
 import se.sowl.progapi.post.service.TrendingPostService;
 import se.sowl.progdomain.oauth.domain.CustomOAuth2User;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Supplier;
+
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
@@ -21,21 +32,53 @@ public class PostController {
     private final TrendingPostService trendingPostService;
     private final RecentPostService recentPostService;
     private final LikedPostService likedPostService;
+    private final FeedService feedService;
+    private final LikeService likeService;
+    private final PostListResponseCache postListResponseCache;
 
+    // 트렌딩/최근 목록은 사용자 없이 만든 응답을 노드마다 잠깐 캐시해 두고, 좋아요 여부만 사용자별로 채워 바로 쓴다.
     @GetMapping("/trending")
     @PreAuthorize("isAuthenticated()")
-    public CommonResponse<Page<PostResponse>> getTrendingPosts(@RequestParam("page") int page, @RequestParam("size") int size) {
+    public void getTrendingPosts(
+        @AuthenticationPrincipal CustomOAuth2User user, @RequestParam("page") int page, @RequestParam("size") int size,
+        @RequestParam(value = "interestId", required = false) Long interestId, HttpServletResponse response
+    ) throws IOException {
         Pageable pageable = PageRequest.of(page, size);
-        Page<PostResponse> trendingPosts = trendingPostService.getTrendingPosts(pageable);
-        return CommonResponse.ok(trendingPosts);
+        PostListResponseCache.CachedPostList trendingPosts = postListResponseCache.get(
+                new PostListResponseCache.Key("trending", page, size, interestId),
+                () -> trendingPostService.getTrendingPosts(null, interestId, pageable),
+                Page::getContent);
+        writeSharedList(user, trendingPosts, response);
     }
 
     @GetMapping("/recent")
     @PreAuthorize("isAuthenticated()")
-    public CommonResponse<Page<PostResponse>> getRecentPost(@RequestParam("page") int page, @RequestParam("size") int size) {
+    public void getRecentPost(
+        @AuthenticationPrincipal CustomOAuth2User user, @RequestParam("page") int page, @RequestParam("size") int size,
+        @RequestParam(value = "interestId", required = false) Long interestId, HttpServletResponse response
+    ) throws IOException {
         Pageable pageable = PageRequest.of(page, size);
-        Page<PostResponse> trendingPosts = recentPostService.getRecentPosts(pageable);
-        return CommonResponse.ok(trendingPosts);
+        PostListResponseCache.CachedPostList recentPosts = postListResponseCache.get(
+                new PostListResponseCache.Key("recent", page, size, interestId),
+                () -> recentPostService.getRecentPosts(null, interestId, pageable),
+                Page::getContent);
+        writeSharedList(user, recentPosts, response);
+    }
+
+    // 첫 페이지만 캐시하고, 커서가 있는 요청은 사용자마다 위치가 달라 그대로 조회한다.
+    @GetMapping("/recent/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public void getRecentPostByCursor(
+        @AuthenticationPrincipal CustomOAuth2User user,
+        @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") int size,
+        @RequestParam(value = "interestId", required = false) Long interestId, HttpServletResponse response
+    ) throws IOException {
+        PostListResponseCache.Key key = cursor == null ? new PostListResponseCache.Key("recent-cursor", 0, size, interestId) : null;
+        Supplier<PostSliceResponse> loader = () -> recentPostService.getRecentPosts(null, interestId, cursor, size);
+        PostListResponseCache.CachedPostList recentPosts = key == null
+                ? postListResponseCache.load(loader, PostSliceResponse::getContent)
+                : postListResponseCache.get(key, loader, PostSliceResponse::getContent);
+        writeSharedList(user, recentPosts, response);
     }
 
     @GetMapping("/liked")
@@ -47,4 +90,33 @@ public class PostController {
         Page<PostResponse> trendingPosts = likedPostService.getLikedPosts(user.getUserId(), pageable);
         return CommonResponse.ok(trendingPosts);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/liked/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public CommonResponse<PostSliceResponse> getLikedPostByCursor(
+        @AuthenticationPrincipal CustomOAuth2User user,
+        @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") int size
+    ) {
+        PostSliceResponse likedPosts = likedPostService.getLikedPosts(user.getUserId(), cursor, size);
+        return CommonResponse.ok(likedPosts);
+    }
+
+    private void writeSharedList(
+        CustomOAuth2User user, PostListResponseCache.CachedPostList posts, HttpServletResponse response
+    ) throws IOException {
+        Set<Long> likedPostIds = likeService.findLikedPostIds(user.getUserId(), posts.postIds());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        posts.writeTo(response.getOutputStream(), likedPostIds);
+    }
+
+    @GetMapping("/feed")
+    @PreAuthorize("isAuthenticated()")
+    public CommonResponse<PostSliceResponse> getFeed(
+        @AuthenticationPrincipal CustomOAuth2User user,
+        @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") int size
+    ) {
+        PostSliceResponse feed = feedService.getFeed(user.getUserId(), cursor, size);
+        return CommonResponse.ok(feed);
+    }
+}
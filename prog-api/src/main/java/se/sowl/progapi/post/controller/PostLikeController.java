@@ -24,14 +24,40 @@ public class PostLikeController {
 
     @PutMapping
     @PreAuthorize("isAuthenticated()")
+    public CommonResponse<LikeResponse> like(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @Valid @RequestBody LikeRequest request
+    ) {
+        try {
+            LikeResponse response = likeService.like(request.getPostId(), user.getUserId());
+            return CommonResponse.ok(response);
+        } catch (EntityNotFoundException e) {
+            return CommonResponse.fail(e.getMessage());
+        }
+    }
+
+    @DeleteMapping
+    @PreAuthorize("isAuthenticated()")
+    public CommonResponse<LikeResponse> unlike(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @Valid @RequestBody LikeRequest request
+    ) {
+        try {
+            LikeResponse response = likeService.unlike(request.getPostId(), user.getUserId());
+            return CommonResponse.ok(response);
+        } catch (EntityNotFoundException e) {
+            return CommonResponse.fail(e.getMessage());
+        }
+    }
+
+    @PostMapping("/toggle")
+    @PreAuthorize("isAuthenticated()")
     public CommonResponse<LikeResponse> toggleLike(
             @AuthenticationPrincipal CustomOAuth2User user,
             @Valid @RequestBody LikeRequest request
     ) {
         try {
-            boolean isLiked = likeService.toggleLike(request.getPostId(), user.getUserId());
-            long likeCount = likeService.getLikeCount(request.getPostId());
-            LikeResponse response = LikeResponse.createResponse(request.getPostId(), isLiked, likeCount);
+            LikeResponse response = likeService.toggle(request.getPostId(), user.getUserId());
             return CommonResponse.ok(response);
         } catch (EntityNotFoundException e) {
             return CommonResponse.fail(e.getMessage());
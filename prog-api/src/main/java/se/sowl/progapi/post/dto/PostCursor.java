@@ -0,0 +1,40 @@
+package se.sowl.progapi.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import se.sowl.progapi.post.exception.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static PostCursor of(PostResponse post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, delimiterIndex));
+            Long id = Long.parseLong(raw.substring(delimiterIndex + 1));
+            return new PostCursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new PostException.InvalidCursorException();
+        }
+    }
+}
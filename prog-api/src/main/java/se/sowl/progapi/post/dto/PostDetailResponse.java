@@ -38,4 +38,20 @@ public class PostDetailResponse {
                 .userLiked(userLiked)
                 .build();
     }
+
+    public static PostDetailResponse from(PostDetailSnapshot snapshot, String writerNickname, long likeCount, boolean userLiked) {
+        return PostDetailResponse.builder()
+                .id(snapshot.getId())
+                .title(snapshot.getTitle())
+                .writerId(snapshot.getWriterId())
+                .writerNickname(writerNickname)
+                .interest(snapshot.getInterest())
+                .thumbnailUrl(snapshot.getThumbnailUrl())
+                .createdAt(snapshot.getCreatedAt())
+                .updatedAt(snapshot.getUpdatedAt())
+                .content(snapshot.getContent())
+                .likeCount(likeCount)
+                .userLiked(userLiked)
+                .build();
+    }
 }
\ No newline at end of file
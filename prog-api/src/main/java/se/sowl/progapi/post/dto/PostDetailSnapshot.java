@@ -0,0 +1,38 @@
+package se.sowl.progapi.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+import se.sowl.progdomain.interest.domain.Interest;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.domain.PostContent;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 중 사용자와 무관한 부분. 좋아요 수와 좋아요 여부, 바뀔 수 있는 작성자 닉네임은 캐시하지 않는다.
+@Getter
+@Builder
+@Jacksonized
+public class PostDetailSnapshot {
+    private Long id;
+    private String title;
+    private Long writerId;
+    private Interest interest;
+    private String thumbnailUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String content;
+
+    public static PostDetailSnapshot from(Post post, PostContent postContent) {
+        return PostDetailSnapshot.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .writerId(post.getUserId())
+                .interest(post.getInterest())
+                .thumbnailUrl(post.getThumbnailUrl())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .content(postContent.getContent())
+                .build();
+    }
+}
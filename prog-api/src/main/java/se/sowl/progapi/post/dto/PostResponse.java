@@ -2,7 +2,7 @@ package se.sowl.progapi.post.dto;
 
 import lombok.Builder;
 import lombok.Getter;
-import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.repository.PostSummary;
 
 import java.time.LocalDateTime;
 
@@ -15,8 +15,9 @@ public class PostResponse {
     private String thumbnailUrl;
     private LocalDateTime createdAt;
     private long likeCount;
+    private Boolean userLiked;
 
-    public static PostResponse from(Post post, String writerId, long likeCount) {
+    public static PostResponse from(PostSummary post, String writerId, long likeCount, Boolean userLiked) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -24,6 +25,7 @@ public class PostResponse {
                 .thumbnailUrl(post.getThumbnailUrl())
                 .createdAt(post.getCreatedAt())
                 .likeCount(likeCount)
+                .userLiked(userLiked)
                 .build();
     }
 }
\ No newline at end of file
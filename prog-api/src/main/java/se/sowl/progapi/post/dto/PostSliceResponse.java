@@ -0,0 +1,21 @@
+package se.sowl.progapi.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostSliceResponse {
+    private List<PostResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static PostSliceResponse of(List<PostResponse> content, boolean hasNext) {
+        String nextCursor = hasNext && !content.isEmpty()
+                ? PostCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+        return new PostSliceResponse(content, nextCursor, hasNext);
+    }
+}
@@ -31,4 +31,10 @@ public class PostException extends RuntimeException {
             super("게시글 내용이 존재하지 않습니다.", HttpStatus.NOT_FOUND);
         }
     }
+
+    public static class InvalidCursorException extends PostException {
+        public InvalidCursorException() {
+            super("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
 }
\ No newline at end of file
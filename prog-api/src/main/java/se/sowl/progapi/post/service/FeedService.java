@@ -0,0 +1,203 @@
+package se.sowl.progapi.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import se.sowl.progapi.common.transaction.AfterCommitRedisExecutor;
+import se.sowl.progapi.post.dto.PostCursor;
+import se.sowl.progapi.post.dto.PostSliceResponse;
+import se.sowl.progdomain.interest.repository.UserInterestRepository;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.domain.PostTimestamps;
+import se.sowl.progdomain.post.repository.PostCreatedAt;
+import se.sowl.progdomain.post.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// 관심사마다 최근 게시글 ID 를 작성 시각 순으로 쌓아 두고, 사용자의 관심사들을 합쳐 피드를 만든다.
+// 정렬 순서는 Redis 와 같게 (작성 시각 desc, 게시글 ID 문자열 desc) 로 둔다.
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+    static final String FEED_INTEREST_PRESET = "feed:interest:";
+    private static final String FEED_SEEDED_PRESET = "feed:seeded:";
+    private static final int FEED_MAX_SIZE = 1000;
+
+    private static final Comparator<TypedTuple<String>> FEED_ORDER = Comparator
+            .comparing((TypedTuple<String> tuple) -> tuple.getScore(), Comparator.reverseOrder())
+            .thenComparing(TypedTuple::getValue, Comparator.reverseOrder());
+
+    private final StringRedisTemplate redisTemplate;
+    private final AfterCommitRedisExecutor afterCommitRedisExecutor;
+    private final UserInterestRepository userInterestRepository;
+    private final PostRepository postRepository;
+    private final PostResponseAssembler postResponseAssembler;
+
+    public void addPost(Post post) {
+        String key = FEED_INTEREST_PRESET + post.getInterest().getId();
+        double score = PostTimestamps.toScore(post.getCreatedAt());
+        afterCommitRedisExecutor.execute(connection -> {
+            connection.zAdd(key, score, post.getId().toString());
+            connection.zRemRange(key, 0, -(FEED_MAX_SIZE + 1));
+        });
+    }
+
+    public void movePost(Post post, Long previousInterestId) {
+        if (previousInterestId.equals(post.getInterest().getId())) {
+            return;
+        }
+        String postId = post.getId().toString();
+        afterCommitRedisExecutor.execute(connection -> connection.zRem(FEED_INTEREST_PRESET + previousInterestId, postId));
+        addPost(post);
+    }
+
+    // 삭제된 게시글이 피드에 남아 있으면 페이지가 짧아지므로 커밋 뒤에 함께 지운다.
+    public void removePosts(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        List<String[]> removals = posts.stream()
+                .map(post -> new String[]{FEED_INTEREST_PRESET + post.getInterest().getId(), post.getId().toString()})
+                .toList();
+        afterCommitRedisExecutor.execute(connection -> removals.forEach(removal -> connection.zRem(removal[0], removal[1])));
+    }
+
+    public PostSliceResponse getFeed(Long userId, String cursor, int size) {
+        List<Long> interestIds = userInterestRepository.findAllByUserId(userId).stream()
+                .map(userInterest -> userInterest.getInterest().getId())
+                .distinct()
+                .toList();
+        if (interestIds.isEmpty()) {
+            return PostSliceResponse.of(List.of(), false);
+        }
+        seedMissingFeeds(interestIds);
+
+        List<TypedTuple<String>> merged = merge(readFeeds(interestIds, cursor == null ? null : PostCursor.decode(cursor), size), size + 1);
+        boolean hasNext = merged.size() > size;
+        List<TypedTuple<String>> page = merged.subList(0, Math.min(size, merged.size()));
+        List<Long> postIds = page.stream()
+                .map(tuple -> Long.parseLong(Objects.requireNonNull(tuple.getValue())))
+                .toList();
+        // 그 사이 삭제된 게시글은 조립하면서 빠지므로, 다음 커서는 조립 결과가 아니라 Redis 에서 읽은 마지막 항목으로 만든다.
+        String nextCursor = hasNext && !page.isEmpty() ? toCursor(page.get(page.size() - 1)).encode() : null;
+        return new PostSliceResponse(postResponseAssembler.assembleInOrder(postIds, userId), nextCursor, hasNext);
+    }
+
+    private static PostCursor toCursor(TypedTuple<String> tuple) {
+        LocalDateTime createdAt = PostTimestamps.fromScore(Objects.requireNonNull(tuple.getScore()));
+        return new PostCursor(createdAt, Long.parseLong(Objects.requireNonNull(tuple.getValue())));
+    }
+
+    // 관심사마다 커서 이후의 size + 1 개만 읽으므로 Redis 작업량은 페이지 크기 x 관심사 수를 넘지 않는다.
+    @SuppressWarnings("unchecked")
+    private List<List<TypedTuple<String>>> readFeeds(List<Long> interestIds, PostCursor cursor, int size) {
+        double cursorScore = cursor == null ? 0 : PostTimestamps.toScore(cursor.getCreatedAt());
+        String cursorMember = cursor == null ? null : cursor.getId().toString();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            interestIds.forEach(interestId -> {
+                String key = FEED_INTEREST_PRESET + interestId;
+                if (cursor == null) {
+                    stringConnection.zRevRangeWithScores(key, 0, size);
+                } else {
+                    // 점수가 마이크로초 정수라 커서와 같은 시각과 그 이전 시각을 나눠 읽으면 겹치지 않는다.
+                    stringConnection.zRangeByScoreWithScores(key, cursorScore, cursorScore);
+                    stringConnection.zRevRangeByScoreWithScores(key, 0, cursorScore - 1, 0, size + 1);
+                }
+            });
+            return null;
+        });
+
+        List<List<TypedTuple<String>>> feeds = new ArrayList<>();
+        int index = 0;
+        for (int i = 0; i < interestIds.size(); i++) {
+            List<TypedTuple<String>> feed = new ArrayList<>();
+            if (cursor != null) {
+                ((Set<TypedTuple<String>>) results.get(index++)).stream()
+                        .filter(tuple -> Objects.requireNonNull(tuple.getValue()).compareTo(cursorMember) < 0)
+                        .sorted(FEED_ORDER)
+                        .forEach(feed::add);
+            }
+            feed.addAll((Set<TypedTuple<String>>) results.get(index++));
+            feeds.add(feed);
+        }
+        return feeds;
+    }
+
+    // 이미 정렬된 관심사별 목록을 우선순위 큐로 합친다.
+    private List<TypedTuple<String>> merge(List<List<TypedTuple<String>>> feeds, int limit) {
+        PriorityQueue<FeedCursor> queue = new PriorityQueue<>(Comparator.comparing(FeedCursor::head, FEED_ORDER));
+        feeds.stream()
+                .filter(feed -> !feed.isEmpty())
+                .forEach(feed -> queue.add(new FeedCursor(feed.iterator())));
+
+        List<TypedTuple<String>> merged = new ArrayList<>(limit);
+        while (!queue.isEmpty() && merged.size() < limit) {
+            FeedCursor next = queue.poll();
+            merged.add(next.head());
+            if (next.advance()) {
+                queue.add(next);
+            }
+        }
+        return merged;
+    }
+
+    // Redis 가 비워졌거나 처음 읽는 관심사는 DB 에서 최근 게시글로 한 번 채운다.
+    private void seedMissingFeeds(List<Long> interestIds) {
+        List<Object> seeded = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            interestIds.forEach(interestId -> stringConnection.exists(FEED_SEEDED_PRESET + interestId));
+            return null;
+        });
+        for (int i = 0; i < interestIds.size(); i++) {
+            if (!Boolean.TRUE.equals(seeded.get(i))) {
+                seedFeed(interestIds.get(i));
+            }
+        }
+    }
+
+    private void seedFeed(Long interestId) {
+        String key = FEED_INTEREST_PRESET + interestId;
+        List<PostCreatedAt> posts = postRepository.findRecentCreatedAtByInterestId(interestId, PageRequest.of(0, FEED_MAX_SIZE));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            posts.forEach(post -> stringConnection.zAdd(key, PostTimestamps.toScore(post.getCreatedAt()), post.getId().toString()));
+            stringConnection.zRemRange(key, 0, -(FEED_MAX_SIZE + 1));
+            stringConnection.set(FEED_SEEDED_PRESET + interestId, "1");
+            return null;
+        });
+    }
+
+    private static class FeedCursor {
+        private final Iterator<TypedTuple<String>> iterator;
+        private TypedTuple<String> head;
+
+        FeedCursor(Iterator<TypedTuple<String>> iterator) {
+            this.iterator = iterator;
+            this.head = iterator.next();
+        }
+
+        TypedTuple<String> head() {
+            return head;
+        }
+
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            head = iterator.next();
+            return true;
+        }
+    }
+}
@@ -3,19 +3,31 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sowl.progapi.common.scheduling.JobLease;
+import se.sowl.progapi.common.scheduling.ScheduledJobRunner;
+import se.sowl.progapi.common.transaction.AfterCommitRedisExecutor;
+import se.sowl.progapi.post.dto.LikeResponse;
 import se.sowl.progapi.post.exception.PostException;
-import se.sowl.progdomain.post.domain.Like;
 import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.domain.PostTimestamps;
 import se.sowl.progdomain.post.repository.LikeRepository;
+import se.sowl.progdomain.post.repository.PostLikeCountDrift;
 import se.sowl.progdomain.post.repository.PostRepository;
 
-import java.util.Optional;
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
 
 @Service
 public class LikeService {
@@ -23,85 +35,239 @@ public class LikeService {
     private final RedisTemplate<String, String> redisTemplate;
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
-    private final PostService postService;
-    private final String POST_LIKE_COUNT_PRESET = "post:likes_count:";
+    private final TrendingScoreService trendingScoreService;
+    private final RedisLikeService redisLikeService;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final AfterCommitRedisExecutor afterCommitRedisExecutor;
+    private final boolean redisLikeMode;
+    static final String POST_LIKE_COUNT_PRESET = "post:likes_count:";
+    private static final int LIKE_COUNT_SYNC_BATCH_SIZE = 1000;
+    private static final RedisScript<Long> INCR_LIKE_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/incr_like_count.lua"), Long.class);
+    private static final RedisScript<Long> SYNC_LIKE_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/sync_like_count.lua"), Long.class);
 
     @Autowired
     public LikeService(
             RedisTemplate<String, String> redisTemplate,
             LikeRepository likeRepository,
             PostRepository postRepository,
-            @Lazy PostService postService
+            TrendingScoreService trendingScoreService,
+            RedisLikeService redisLikeService,
+            TransactionTemplate transactionTemplate,
+            ScheduledJobRunner scheduledJobRunner,
+            AfterCommitRedisExecutor afterCommitRedisExecutor,
+            @Value("${post.like.mode:database}") String likeMode
     ) {
         this.redisTemplate = redisTemplate;
         this.likeRepository = likeRepository;
         this.postRepository = postRepository;
-        this.postService = postService;
+        this.trendingScoreService = trendingScoreService;
+        this.redisLikeService = redisLikeService;
+        this.transactionTemplate = transactionTemplate;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.afterCommitRedisExecutor = afterCommitRedisExecutor;
+        this.redisLikeMode = "redis".equalsIgnoreCase(likeMode);
     }
 
-
-    @Transactional
     public boolean toggleLike(Long postId, Long userId) {
+        return toggle(postId, userId).isLiked();
+    }
+
+    public LikeResponse toggle(Long postId, Long userId) {
+        // redis 모드에서는 Lua 스크립트 한 번으로 토글하고 DB 반영은 모아서 처리한다.
+        if (redisLikeMode) {
+            return redisLikeService.toggleLike(postId, userId);
+        }
+        return transactionTemplate.execute(status -> toggleInDatabase(postId, userId));
+    }
+
+    // 이미 좋아요한 상태라면 아무것도 바꾸지 않고 현재 상태를 돌려준다.
+    public LikeResponse like(Long postId, Long userId) {
+        if (redisLikeMode) {
+            return redisLikeService.like(postId, userId);
+        }
+        return transactionTemplate.execute(status ->
+                applyLikeChange(postId, true, insertLike(postId, userId)));
+    }
+
+    public LikeResponse unlike(Long postId, Long userId) {
+        if (redisLikeMode) {
+            return redisLikeService.unlike(postId, userId);
+        }
+        return transactionTemplate.execute(status ->
+                applyLikeChange(postId, false, -likeRepository.deleteByPostIdAndUserId(postId, userId)));
+    }
+
+    private LikeResponse toggleInDatabase(Long postId, Long userId) {
+        // 먼저 지워보고 지워진 행이 없을 때만 추가해서 조회 없이 토글한다.
+        int deleted = likeRepository.deleteByPostIdAndUserId(postId, userId);
+        if (deleted > 0) {
+            return applyLikeChange(postId, false, -deleted);
+        }
+        return applyLikeChange(postId, true, insertLike(postId, userId));
+    }
+
+    private int insertLike(Long postId, Long userId) {
+        return likeRepository.insertIgnoringDuplicate(postId, userId, PostTimestamps.now());
+    }
 
-        if (!postService.existsPost(postId)) {
+    // 좋아요 행의 변경 수만큼만 카운터를 옮기므로 동시에 같은 요청이 와도 한 번만 반영된다.
+    private LikeResponse applyLikeChange(Long postId, boolean liked, int delta) {
+        if (delta != 0) {
+            // 게시글이 없거나 삭제되었다면 갱신된 행이 없고, 예외로 좋아요 변경까지 롤백한다.
+            if (postRepository.incrementLikeCount(postId, delta) == 0) {
+                throw new PostException.PostNotExistException();
+            }
+            trendingScoreService.recordLike(postId, delta);
+        } else if (!postRepository.existsByIdAndDeletedFalse(postId)) {
             throw new PostException.PostNotExistException();
         }
 
-        return likeRepository.findByPostIdAndUserId(postId, userId)
-                .map(like -> {
-                    likeRepository.delete(like);
-                    updateLikeCountCache(postId, -1);
-                    return false;
-                })
-                .orElseGet(() -> {
-                    likeRepository.save(new Like(postId, userId));
-                    updateLikeCountCache(postId, 1);
-                    return true;
-                });
+        // 캐시와 트렌딩 점수는 커밋된 뒤에만 반영되므로 롤백되면 바뀌지 않는다.
+        // 커밋 순서와 캐시 반영 순서가 뒤바뀌어도 맞도록 읽은 값을 덮어쓰지 않고 변경 수만 더한다.
+        if (delta != 0) {
+            incrementLikeCountCache(postId, delta);
+        }
+        long likeCount = postRepository.findLikeCountById(postId).orElse(0L);
+        return LikeResponse.createResponse(postId, liked, likeCount);
     }
 
     public long getLikeCount(Long postId) {
         String key = POST_LIKE_COUNT_PRESET + postId;
         String cachedCount = redisTemplate.opsForValue().get(key);
         if (cachedCount != null) {
-            long count = Long.parseLong(cachedCount);
-            long dbCount = likeRepository.countByPostId(postId);
-
-            if (count != dbCount) {
-                redisTemplate.opsForValue().set(key, String.valueOf(dbCount));
-                return dbCount;
-            }
-            return count;
+            return Long.parseLong(cachedCount);
         }
-        return getLikeCountWithSet(postId, key);
+        long likeCount = postRepository.findLikeCountById(postId).orElse(0L);
+        // 그사이 다른 요청이 채운 값이 있으면 덮어쓰지 않는다.
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(likeCount));
+        return likeCount;
     }
 
-    private void updateLikeCountCache(Long postId, int delta) {
+    private void incrementLikeCountCache(Long postId, int delta) {
         String key = POST_LIKE_COUNT_PRESET + postId;
-        redisTemplate.opsForValue().increment(key, delta);
+        afterCommitRedisExecutor.execute(connection -> connection.eval(INCR_LIKE_COUNT_SCRIPT.getScriptAsString(),
+                ReturnType.INTEGER, 1, key, String.valueOf(delta)));
     }
 
-    private long getLikeCountWithSet(Long postId, String key) {
-        long count = likeRepository.countByPostId(postId);
-        redisTemplate.opsForValue().set(key, String.valueOf(count));
-        return count;
+    @Scheduled(fixedRate = 3600000)
+    public void scheduleLikeCountSync() {
+        scheduledJobRunner.runWithLease("like-count-sync", Duration.ofMinutes(30), Duration.ofMinutes(5), lease -> syncLikeCountCache(lease));
     }
 
-    @Scheduled(fixedRate = 3600000)
     public void syncLikeCountCache() {
-        Set<String> keys = redisTemplate.keys(POST_LIKE_COUNT_PRESET + "*");
-        for (String key : keys) {
-            String postIdStr = key.substring(POST_LIKE_COUNT_PRESET.length());
-            Long postId = Long.parseLong(postIdStr);
-            long dbCount = likeRepository.countByPostId(postId);
-            redisTemplate.opsForValue().set(key, String.valueOf(dbCount));
+        syncLikeCountCache(JobLease.unguarded());
+    }
+
+    public void syncLikeCountCache(JobLease lease) {
+        // 목록과 상세가 읽는 컬럼을 먼저 좋아요 행 수에 맞추고, 캐시는 그 컬럼에 맞춘다.
+        syncLikeCountColumn(lease);
+        // redis 모드에서는 캐시된 좋아요 수가 좋아요 집합에서 계산되므로 맞출 필요가 없다.
+        if (redisLikeMode) {
+            return;
+        }
+
+        // KEYS 대신 SCAN 으로 나눠 읽어 다른 클라이언트를 막지 않는다.
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(POST_LIKE_COUNT_PRESET + "*")
+                .count(LIKE_COUNT_SYNC_BATCH_SIZE)
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>(LIKE_COUNT_SYNC_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == LIKE_COUNT_SYNC_BATCH_SIZE) {
+                    syncLikeCountBatch(keys, lease);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                syncLikeCountBatch(keys, lease);
+            }
+        }
+    }
+
+    private void syncLikeCountColumn(JobLease lease) {
+        Optional<Long> minId = postRepository.findMinId();
+        Optional<Long> maxId = postRepository.findMaxId();
+        if (minId.isEmpty() || maxId.isEmpty()) {
+            return;
+        }
+        for (long from = minId.get(); from <= maxId.get(); from += LIKE_COUNT_SYNC_BATCH_SIZE) {
+            List<PostLikeCountDrift> drifts = postRepository.findLikeCountDrifts(from, from + LIKE_COUNT_SYNC_BATCH_SIZE - 1);
+            if (drifts.isEmpty()) {
+                continue;
+            }
+            lease.renew();
+            transactionTemplate.executeWithoutResult(status -> drifts.forEach(drift ->
+                    postRepository.correctLikeCount(drift.getPostId(), drift.getLikeCount(), drift.getActualLikeCount())));
         }
     }
 
+    private void syncLikeCountBatch(List<String> keys, JobLease lease) {
+        List<Long> postIds = keys.stream()
+                .map(key -> Long.parseLong(key.substring(POST_LIKE_COUNT_PRESET.length())))
+                .toList();
+        List<String> cachedCounts = redisTemplate.opsForValue().multiGet(keys);
+        Map<Long, Long> columnCounts = new HashMap<>();
+        postRepository.findLikeCountsByIdIn(postIds)
+                .forEach(count -> columnCounts.put(count.getPostId(), count.getLikeCount()));
+
+        List<String[]> corrections = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String columnCount = String.valueOf(columnCounts.getOrDefault(postIds.get(i), 0L));
+            String cachedCount = cachedCounts == null ? null : cachedCounts.get(i);
+            // 그사이 지워진 키는 다음 조회가 컬럼에서 채운다.
+            if (cachedCount != null && !columnCount.equals(cachedCount)) {
+                corrections.add(new String[]{keys.get(i), cachedCount, columnCount});
+            }
+        }
+        if (corrections.isEmpty()) {
+            return;
+        }
+        lease.renew();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            corrections.forEach(correction -> stringConnection.eval(SYNC_LIKE_COUNT_SCRIPT.getScriptAsString(),
+                    ReturnType.INTEGER, 1, correction[0], correction[1], correction[2]));
+            return null;
+        });
+    }
+
     public boolean hasUserLiked(Long postId, Long userId) {
+        if (redisLikeMode) {
+            Boolean liked = redisLikeService.findUserLiked(postId, userId);
+            if (liked != null) {
+                return liked;
+            }
+        }
         return likeRepository.existsByPostIdAndUserId(postId, userId);
     }
 
+    public Set<Long> findLikedPostIds(Long userId, List<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> likedPostIds = new HashSet<>();
+        List<Long> uncheckedPostIds = postIds;
+        if (redisLikeMode) {
+            Map<Long, Boolean> cached = redisLikeService.findUserLiked(postIds, userId);
+            cached.forEach((postId, liked) -> {
+                if (liked) {
+                    likedPostIds.add(postId);
+                }
+            });
+            uncheckedPostIds = postIds.stream().filter(postId -> !cached.containsKey(postId)).toList();
+        }
+        if (!uncheckedPostIds.isEmpty()) {
+            likedPostIds.addAll(likeRepository.findLikedPostIds(userId, uncheckedPostIds));
+        }
+        return likedPostIds;
+    }
+
 
 //    @Scheduled(fixedRate = 600000)
 //    @Transactional
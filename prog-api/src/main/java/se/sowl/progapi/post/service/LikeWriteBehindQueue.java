@@ -0,0 +1,170 @@
+package se.sowl.progapi.post.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class LikeWriteBehindQueue implements SmartLifecycle {
+    private static final String INSERT_LIKE_SQL = "INSERT IGNORE INTO likes (post_id, user_id, created_at) VALUES (?, ?, ?)";
+    private static final String DELETE_LIKE_SQL = "DELETE FROM likes WHERE post_id = ? AND user_id = ?";
+    private static final String UPDATE_LIKE_COUNT_SQL = "UPDATE posts SET like_count = like_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+
+    // 같은 사용자가 연속으로 누른 경우 마지막 상태만 남기므로 DB 에는 최종 결과만 반영된다.
+    // 좋아요 수는 Redis 스크립트가 알려 준 변경 수를 모아 두었다가 그만큼만 옮긴다.
+    private final ConcurrentHashMap<LikeKey, PendingLike> pendingLikes = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private ScheduledExecutorService flushExecutor;
+    private volatile boolean running = false;
+
+    public LikeWriteBehindQueue(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${post.like.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${post.like.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+    }
+
+    // 사용자 집합이 실제로 바뀐 경우에만 호출되므로 좋아요는 +1, 취소는 -1 이다.
+    public void enqueue(long postId, long userId, boolean liked) {
+        pendingLikes.merge(new LikeKey(postId, userId), new PendingLike(liked, liked ? 1 : -1), PendingLike::then);
+        if (running && pendingLikes.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushSafely);
+        }
+    }
+
+    public synchronized void flush() {
+        flushScheduled.set(false);
+        List<Map.Entry<LikeKey, PendingLike>> drained = new ArrayList<>();
+        for (LikeKey key : pendingLikes.keySet()) {
+            pendingLikes.computeIfPresent(key, (likeKey, pending) -> {
+                drained.add(Map.entry(likeKey, pending));
+                return null;
+            });
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<LikeKey, PendingLike>> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                writeLikes(chunk);
+            } catch (RuntimeException e) {
+                log.error("좋아요 반영에 실패했습니다. 다음 주기에 다시 시도합니다. size={}", chunk.size(), e);
+                // 그 사이 새로 들어온 상태가 있다면 그 상태를 우선하고, 변경 수는 함께 더한다.
+                chunk.forEach(entry -> pendingLikes.merge(entry.getKey(), entry.getValue(), (newer, failed) -> failed.then(newer)));
+            }
+        }
+    }
+
+    private void writeLikes(List<Map.Entry<LikeKey, PendingLike>> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<LikeKey, PendingLike> entry : chunk) {
+            LikeKey key = entry.getKey();
+            if (entry.getValue().liked()) {
+                inserts.add(new Object[]{key.postId(), key.userId(), now});
+            } else {
+                deletes.add(new Object[]{key.postId(), key.userId()});
+            }
+            deltas.merge(key.postId(), (long) entry.getValue().delta(), Long::sum);
+        }
+        List<Object[]> updates = new ArrayList<>();
+        deltas.forEach((postId, delta) -> {
+            if (delta != 0) {
+                updates.add(new Object[]{delta, postId});
+            }
+        });
+
+        // 행 변경 수는 드라이버가 배치를 재작성하면 알 수 없으므로, 좋아요 수는 Redis 에서 바뀐 만큼만 옮긴다.
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, inserts);
+            }
+            if (!deletes.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, deletes);
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_LIKE_COUNT_SQL, updates);
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "like-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전에 남은 좋아요를 모두 반영한다.
+        flushSafely();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("좋아요 반영 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 웹 서버가 요청을 모두 처리한 뒤, DB 연결이 닫히기 전에 멈춘다.
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private record LikeKey(long postId, long userId) {
+    }
+
+    private record PendingLike(boolean liked, int delta) {
+        // 이 변경 뒤에 next 가 일어난 것으로 합친다.
+        private PendingLike then(PendingLike next) {
+            return new PendingLike(next.liked(), delta + next.delta());
+        }
+    }
+}
@@ -2,14 +2,16 @@ package se.sowl.progapi.post.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import se.sowl.progapi.post.dto.PostCursor;
 import se.sowl.progapi.post.dto.PostResponse;
-import se.sowl.progdomain.post.domain.Like;
-import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progapi.post.dto.PostSliceResponse;
 import se.sowl.progdomain.post.repository.LikeRepository;
-import se.sowl.progdomain.post.repository.PostRepository;
+import se.sowl.progdomain.post.repository.LikedPost;
 
 import java.util.List;
 
@@ -18,14 +20,33 @@ import java.util.List;
 public class LikedPostService {
 
     private final LikeRepository likeRepository;
-    private final PostRepository postRepository;
-    private final PostService postService;
+    private final PostResponseAssembler postResponseAssembler;
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getLikedPosts(Long userId, Pageable pageable) {
-        Page<Like> likesPage = likeRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-        List<Long> postIds = likesPage.getContent().stream().map(Like::getPostId).toList();
-        Page<Post> posts = postRepository.findAllByIdInAndDeletedFalse(postIds, pageable);
-        return postService.toPagePostResponse(posts);
+        // 좋아요를 누른 순서가 기준이므로 요청의 정렬 조건은 쓰지 않는다.
+        Pageable likedOrder = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<LikedPost> likedPosts = likeRepository.findLikedPostsByUserId(userId, likedOrder);
+        return postResponseAssembler.assemble(likedPosts, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public PostSliceResponse getLikedPosts(Long userId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<LikedPost> likedPosts = cursor == null
+                ? likeRepository.findLikedPostSliceByUserId(userId, pageable)
+                : findSliceBefore(userId, PostCursor.decode(cursor), pageable);
+
+        List<LikedPost> content = likedPosts.getContent();
+        List<PostResponse> posts = postResponseAssembler.assemble(content, userId);
+        // 다음 커서는 게시글이 아니라 마지막 좋아요의 (생성 시각, id) 로 만든다.
+        String nextCursor = likedPosts.hasNext() && !content.isEmpty()
+                ? new PostCursor(content.get(content.size() - 1).getLikedAt(), content.get(content.size() - 1).getLikeId()).encode()
+                : null;
+        return new PostSliceResponse(posts, nextCursor, likedPosts.hasNext());
+    }
+
+    private Slice<LikedPost> findSliceBefore(Long userId, PostCursor cursor, Pageable pageable) {
+        return likeRepository.findLikedPostSliceByUserIdBefore(userId, cursor.getCreatedAt(), cursor.getId(), pageable);
     }
 }
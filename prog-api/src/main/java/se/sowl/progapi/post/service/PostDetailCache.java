@@ -0,0 +1,226 @@
+package se.sowl.progapi.post.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import se.sowl.progapi.common.cache.CacheInvalidationBus;
+import se.sowl.progapi.common.transaction.AfterCommitRedisExecutor;
+import se.sowl.progapi.post.dto.PostDetailSnapshot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// 게시글 상세를 로컬(Caffeine) -> Redis -> DB 순서로 찾는다.
+// Redis 사본은 만료되기 전에 한 요청이 미리 다시 읽어 덮어써서, 인기 게시글이 만료되는 순간 DB 로 몰리지 않게 한다.
+@Slf4j
+@Component
+public class PostDetailCache {
+    static final String CACHE_NAME = "post-detail";
+    static final String POST_DETAIL_PRESET = "post:detail:";
+    static final String POST_DETAIL_REFRESH_PRESET = "post:detail:refresh:";
+    static final String POST_DETAIL_VERSION_PRESET = "post:detail:version:";
+    private static final RedisScript<Long> WRITE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/write_post_detail.lua"), Long.class);
+    private static final int LOCAL_GENERATION_STRIPES = 1024;
+    // 클수록 만료 전에 더 일찍 다시 읽는다.
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final AfterCommitRedisExecutor afterCommitRedisExecutor;
+    private final Cache<Long, CachedPostDetail> localCache;
+    // 이 노드가 최근에 갱신 잠금을 시도한 게시글. 시도한 뒤 잠금 시간 동안은 Redis 에 다시 묻지 않는다.
+    private final Cache<Long, Boolean> refreshAttempts;
+    // 무효화될 때마다 올려서, 그 전에 읽기 시작한 값이 로컬 캐시에 남지 않게 한다. 게시글 ID 를 나눠 담아 크기가 늘지 않는다.
+    private final AtomicLongArray localGenerations = new AtomicLongArray(LOCAL_GENERATION_STRIPES);
+    private final Duration redisTtl;
+    private final Duration refreshAhead;
+    private final Duration refreshLockTtl;
+    // 같은 게시글을 동시에 읽어 오는 요청은 먼저 시작한 요청의 결과를 함께 기다린다.
+    private final ConcurrentHashMap<Long, CompletableFuture<CachedPostDetail>> inFlightLoads = new ConcurrentHashMap<>();
+
+    public PostDetailCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            CacheInvalidationBus invalidationBus,
+            AfterCommitRedisExecutor afterCommitRedisExecutor,
+            @Value("${post.detail.cache.local-size:10000}") long localSize,
+            @Value("${post.detail.cache.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${post.detail.cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+            @Value("${post.detail.cache.refresh-ahead-seconds:120}") long refreshAheadSeconds,
+            @Value("${post.detail.cache.refresh-lock-seconds:5}") long refreshLockSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.afterCommitRedisExecutor = afterCommitRedisExecutor;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.refreshAhead = Duration.ofSeconds(refreshAheadSeconds);
+        this.refreshLockTtl = Duration.ofSeconds(refreshLockSeconds);
+        this.refreshAttempts = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(refreshLockTtl)
+                .build();
+        invalidationBus.register(CACHE_NAME, key -> invalidateLocal(Long.parseLong(key)));
+    }
+
+    public PostDetailSnapshot get(Long postId, Function<Long, PostDetailSnapshot> loader) {
+        CachedPostDetail cached = localCache.getIfPresent(postId);
+        if (cached == null) {
+            cached = await(load(postId, loader, true));
+        }
+        // 로컬 캐시가 Redis 보다 먼저 만료되므로 Redis 에서 막 읽어 온 값도 여기서 함께 확인한다.
+        if (shouldRefreshEarly(cached) && !inFlightLoads.containsKey(postId) && tryAcquireRefresh(postId)) {
+            // 만료 전에 여러 노드 중 잠금을 잡은 한 요청만 다시 읽고, 나머지는 기존 값을 그대로 쓴다.
+            try {
+                return await(load(postId, loader, false)).snapshot();
+            } catch (RuntimeException e) {
+                log.warn("게시글 상세를 미리 갱신하지 못했습니다. postId={}", postId, e);
+            }
+        }
+        return cached.snapshot();
+    }
+
+    public void evict(Long postId) {
+        // Redis 를 먼저 지워야 다른 노드가 로컬 캐시를 비운 뒤 옛 값을 다시 가져가지 않는다.
+        // 둘 다 커밋 뒤에 실행해야 커밋 전에 다시 읽어 간 옛 값이 남지 않는다.
+        // 버전을 올려 두면 커밋 전에 DB 를 읽기 시작한 요청이 옛 값을 다시 써 넣지 못한다.
+        String versionKey = POST_DETAIL_VERSION_PRESET + postId;
+        afterCommitRedisExecutor.execute(connection -> {
+            connection.incr(versionKey);
+            connection.pExpire(versionKey, redisTtl.toMillis());
+            connection.del(POST_DETAIL_PRESET + postId);
+        });
+        invalidationBus.publish(CACHE_NAME, postId.toString());
+    }
+
+    private void invalidateLocal(Long postId) {
+        localGenerations.incrementAndGet(localGenerationStripe(postId));
+        localCache.invalidate(postId);
+    }
+
+    private int localGenerationStripe(Long postId) {
+        return Math.floorMod(postId.hashCode(), LOCAL_GENERATION_STRIPES);
+    }
+
+    private CompletableFuture<CachedPostDetail> load(Long postId, Function<Long, PostDetailSnapshot> loader, boolean readRedis) {
+        CompletableFuture<CachedPostDetail> future = new CompletableFuture<>();
+        CompletableFuture<CachedPostDetail> inFlight = inFlightLoads.putIfAbsent(postId, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        try {
+            long localGeneration = localGenerations.get(localGenerationStripe(postId));
+            CachedPostDetail loaded = readRedis ? readFromRedis(postId) : null;
+            if (loaded == null) {
+                String version = readVersion(postId);
+                long startedAt = System.currentTimeMillis();
+                PostDetailSnapshot snapshot = loader.apply(postId);
+                long now = System.currentTimeMillis();
+                loaded = new CachedPostDetail(snapshot, Math.max(now - startedAt, 1), now + redisTtl.toMillis());
+                writeToRedis(postId, version, loaded);
+            }
+            localCache.put(postId, loaded);
+            // 넣기 전에 무효화가 지나갔다면 방금 넣은 값이 옛 값이므로 다시 뺀다.
+            if (localGenerations.get(localGenerationStripe(postId)) != localGeneration) {
+                localCache.invalidate(postId);
+            }
+            future.complete(loaded);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlightLoads.remove(postId, future);
+        }
+        return future;
+    }
+
+    // 남은 시간이 refreshAhead 안으로 들어오면 갱신한다.
+    // 그 전에도 XFetch 로 다시 읽는 데 오래 걸리는 게시글일수록 높은 확률로 조금 더 일찍 갱신한다.
+    private boolean shouldRefreshEarly(CachedPostDetail cached) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double gap = -cached.computeMillis() * EARLY_REFRESH_BETA * Math.log(random);
+        return System.currentTimeMillis() + refreshAhead.toMillis() + gap >= cached.expiresAtMillis();
+    }
+
+    // 잠금은 갱신이 끝나도 풀지 않고 짧게 두어, 실패한 경우에도 곧 다른 요청이 다시 시도하게 한다.
+    private boolean tryAcquireRefresh(Long postId) {
+        if (refreshAttempts.asMap().putIfAbsent(postId, Boolean.TRUE) != null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(POST_DETAIL_REFRESH_PRESET + postId, "1", refreshLockTtl));
+        } catch (RuntimeException e) {
+            log.warn("게시글 상세 갱신 잠금을 잡지 못했습니다. postId={}", postId, e);
+            return false;
+        }
+    }
+
+    private CachedPostDetail await(CompletableFuture<CachedPostDetail> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedPostDetail readFromRedis(Long postId) {
+        try {
+            String json = redisTemplate.opsForValue().get(POST_DETAIL_PRESET + postId);
+            return json == null ? null : objectMapper.readValue(json, CachedPostDetail.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("게시글 상세 캐시를 읽지 못했습니다. postId={}", postId, e);
+            return null;
+        }
+    }
+
+    private String readVersion(Long postId) {
+        try {
+            String version = redisTemplate.opsForValue().get(POST_DETAIL_VERSION_PRESET + postId);
+            return version == null ? "0" : version;
+        } catch (RuntimeException e) {
+            log.warn("게시글 상세 캐시 버전을 읽지 못했습니다. postId={}", postId, e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(Long postId, String version, CachedPostDetail cached) {
+        // 버전을 모르면 무효화와 겹쳤는지 알 수 없으므로 쓰지 않는다.
+        if (version == null) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(cached);
+            redisTemplate.execute(WRITE_SCRIPT,
+                    List.of(POST_DETAIL_PRESET + postId, POST_DETAIL_VERSION_PRESET + postId),
+                    version, json, String.valueOf(redisTtl.toMillis()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("게시글 상세 캐시를 저장하지 못했습니다. postId={}", postId, e);
+        }
+    }
+
+    record CachedPostDetail(PostDetailSnapshot snapshot, long computeMillis, long expiresAtMillis) {
+    }
+}
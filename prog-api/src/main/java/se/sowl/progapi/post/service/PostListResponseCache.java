@@ -0,0 +1,181 @@
+package se.sowl.progapi.post.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import se.sowl.progapi.common.CommonResponse;
+import se.sowl.progapi.post.dto.PostResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 사용자와 무관하게 만든 게시글 목록 응답(CommonResponse)을 JSON 바이트로 짧게 캐시한다.
+// 좋아요 여부만 사용자마다 다르므로 "userLiked":null 자리에서 바이트를 나눠 두고, 응답할 때 그 자리만 채워 쓴다.
+@Slf4j
+@Component
+public class PostListResponseCache {
+    private static final byte[] USER_LIKED_PLACEHOLDER = "\"userLiked\":null".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] USER_LIKED_TRUE = "\"userLiked\":true".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] USER_LIKED_FALSE = "\"userLiked\":false".getBytes(StandardCharsets.UTF_8);
+    private static final String LIKED_POST_IDS_ATTRIBUTE = "likedPostIds";
+
+    private final ObjectMapper objectMapper;
+    // 자리 표시를 찾지 못한 응답은 이 writer 로 요청마다 다시 직렬화하면서 좋아요 여부를 채운다.
+    private final ObjectWriter userLikedWriter;
+    private final Cache<Key, CachedPostList> cache;
+    private final boolean enabled;
+    private final long refreshAfterMillis;
+    // 같은 키는 한 번에 하나만 백그라운드에서 다시 만든다.
+    private final Set<Key> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-list-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostListResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${post.list.cache.size:1000}") long size,
+            @Value("${post.list.cache.ttl-millis:3000}") long ttlMillis,
+            @Value("${post.list.cache.refresh-after-millis:2000}") long refreshAfterMillis
+    ) {
+        this.objectMapper = objectMapper;
+        this.userLikedWriter = objectMapper.copy()
+                .addMixIn(PostResponse.class, UserLikedMixIn.class)
+                .writer();
+        this.enabled = ttlMillis > 0;
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(Duration.ofMillis(Math.max(ttlMillis, 1)))
+                .build();
+    }
+
+    // 비어 있으면 같은 키의 요청들이 한 번 만든 결과를 함께 쓰고, 오래되었으면 이전 값을 돌려주며 뒤에서 다시 만든다.
+    public <T> CachedPostList get(Key key, Supplier<T> loader, Function<T, List<PostResponse>> contentOf) {
+        if (!enabled) {
+            return load(loader, contentOf);
+        }
+        CachedPostList cached = cache.get(key, k -> load(loader, contentOf));
+        if (System.currentTimeMillis() - cached.loadedAtMillis() >= refreshAfterMillis && refreshingKeys.add(key)) {
+            refreshExecutor.execute(() -> refresh(key, loader, contentOf));
+        }
+        return cached;
+    }
+
+    private <T> void refresh(Key key, Supplier<T> loader, Function<T, List<PostResponse>> contentOf) {
+        try {
+            cache.put(key, load(loader, contentOf));
+        } catch (RuntimeException e) {
+            log.warn("게시글 목록 캐시를 미리 갱신하지 못했습니다. key={}", key, e);
+        } finally {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    public <T> CachedPostList load(Supplier<T> loader, Function<T, List<PostResponse>> contentOf) {
+        T result = loader.get();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(CommonResponse.ok(result));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 목록을 직렬화하지 못했습니다.", e);
+        }
+        List<Long> postIds = contentOf.apply(result).stream()
+                .filter(post -> post.getUserLiked() == null)
+                .map(PostResponse::getId)
+                .toList();
+        List<byte[]> segments = split(json);
+        // ObjectMapper 설정(들여쓰기, null 생략 등)에 따라 자리 표시가 게시글 수와 맞지 않으면 바이트를 나눠 쓰지 않는다.
+        if (segments.size() != postIds.size() + 1) {
+            log.warn("게시글 목록 응답에서 좋아요 자리를 찾지 못해 요청마다 직렬화합니다. expected={}, found={}",
+                    postIds.size(), segments.size() - 1);
+            CommonResponse<T> response = CommonResponse.ok(result);
+            return new CachedPostList(List.of(), postIds, System.currentTimeMillis(), (out, likedPostIds) ->
+                    out.write(userLikedWriter.withAttribute(LIKED_POST_IDS_ATTRIBUTE, likedPostIds).writeValueAsBytes(response)));
+        }
+        return new CachedPostList(segments, postIds, System.currentTimeMillis(), null);
+    }
+
+    // 문자열 안의 따옴표는 \" 로 이스케이프되므로 자리 표시와 같은 바이트는 필드 자리에서만 나온다.
+    private static List<byte[]> split(byte[] json) {
+        List<byte[]> segments = new ArrayList<>();
+        int from = 0;
+        for (int i = 0; i <= json.length - USER_LIKED_PLACEHOLDER.length; i++) {
+            if (Arrays.equals(json, i, i + USER_LIKED_PLACEHOLDER.length, USER_LIKED_PLACEHOLDER, 0, USER_LIKED_PLACEHOLDER.length)) {
+                segments.add(Arrays.copyOfRange(json, from, i));
+                from = i + USER_LIKED_PLACEHOLDER.length;
+                i = from - 1;
+            }
+        }
+        segments.add(Arrays.copyOfRange(json, from, json.length));
+        return segments;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public record Key(String endpoint, int page, int size, Long interestId) {
+    }
+
+    // segments 는 postIds 보다 하나 많고, 그 사이마다 해당 게시글의 좋아요 여부가 들어간다.
+    // 나눌 수 없었던 응답은 fallback 이 대신 쓴다.
+    public record CachedPostList(List<byte[]> segments, List<Long> postIds, long loadedAtMillis, ResponseWriter fallback) {
+        public void writeTo(OutputStream out, Set<Long> likedPostIds) throws IOException {
+            if (fallback != null) {
+                fallback.write(out, likedPostIds);
+                return;
+            }
+            out.write(segments.get(0));
+            for (int i = 0; i < postIds.size(); i++) {
+                out.write(likedPostIds.contains(postIds.get(i)) ? USER_LIKED_TRUE : USER_LIKED_FALSE);
+                out.write(segments.get(i + 1));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ResponseWriter {
+        void write(OutputStream out, Set<Long> likedPostIds) throws IOException;
+    }
+
+    private abstract static class UserLikedMixIn {
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        @JsonSerialize(nullsUsing = UserLikedSerializer.class)
+        abstract Boolean getUserLiked();
+    }
+
+    // 비어 있는 좋아요 여부만 요청한 사용자의 좋아요 목록으로 채운다.
+    private static class UserLikedSerializer extends JsonSerializer<Boolean> {
+        @Override
+        public void serialize(Boolean value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Set<?> likedPostIds = (Set<?>) provider.getAttribute(LIKED_POST_IDS_ATTRIBUTE);
+            PostResponse post = (PostResponse) gen.currentValue();
+            gen.writeBoolean(likedPostIds != null && likedPostIds.contains(post.getId()));
+        }
+    }
+}
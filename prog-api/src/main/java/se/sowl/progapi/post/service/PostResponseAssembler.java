@@ -0,0 +1,66 @@
+package se.sowl.progapi.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import se.sowl.progapi.post.dto.PostResponse;
+import se.sowl.progapi.user.dto.UserSummary;
+import se.sowl.progapi.user.service.UserSummaryLoader;
+import se.sowl.progdomain.post.repository.PostRepository;
+import se.sowl.progdomain.post.repository.PostSummary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class PostResponseAssembler {
+
+    private final UserSummaryLoader userSummaryLoader;
+    private final LikeService likeService;
+    private final PostRepository postRepository;
+
+    public Page<PostResponse> assemble(Page<? extends PostSummary> posts, Long userId) {
+        return new PageImpl<>(assemble(posts.getContent(), userId), posts.getPageable(), posts.getTotalElements());
+    }
+
+    // Redis 랭킹이나 인덱스에서 읽은 ID 순서를 그대로 지키며 조립한다. 그 사이 삭제된 게시글은 빠진다.
+    public List<PostResponse> assembleInOrder(List<Long> postIds, Long userId) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> postsById = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        List<PostSummary> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return assemble(posts, userId);
+    }
+
+    public List<PostResponse> assemble(List<? extends PostSummary> posts, Long userId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        // 작성자를 페이지 단위로 한 번에 조회한다. 좋아요 수는 게시글의 like_count 컬럼을 그대로 쓴다.
+        Map<Long, UserSummary> writers = userSummaryLoader.loadAll(posts.stream().map(PostSummary::getUserId).toList());
+        // 사용자의 좋아요 여부도 페이지 전체를 한 번에 확인한다.
+        // 사용자 없이 만든 목록은 여러 사용자가 함께 쓰므로 좋아요 여부를 비워 둔다.
+        Set<Long> likedPostIds = likeService.findLikedPostIds(userId, posts.stream().map(PostSummary::getId).toList());
+
+        return posts.stream()
+                .map(post -> PostResponse.from(
+                        post,
+                        writers.get(post.getUserId()).getHandle(),
+                        post.getLikeCount(),
+                        userId == null ? null : likedPostIds.contains(post.getId())
+                ))
+                .toList();
+    }
+}
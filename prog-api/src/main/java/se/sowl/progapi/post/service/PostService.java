@@ -1,23 +1,18 @@
 package se.sowl.progapi.post.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import se.sowl.progapi.interest.service.InterestService;
 import se.sowl.progapi.post.dto.EditPostRequest;
-import se.sowl.progapi.post.dto.PostResponse;
 import se.sowl.progapi.post.dto.PostDetailResponse;
+import se.sowl.progapi.post.dto.PostDetailSnapshot;
 import se.sowl.progapi.post.exception.PostException;
+import se.sowl.progapi.user.service.UserSummaryLoader;
 import se.sowl.progdomain.interest.domain.Interest;
-import se.sowl.progdomain.interest.repository.InterestRepository;
 import se.sowl.progdomain.post.domain.Post;
 import se.sowl.progdomain.post.domain.PostContent;
 import se.sowl.progdomain.post.repository.PostRepository;
-import se.sowl.progdomain.user.domain.User;
-import se.sowl.progdomain.user.repository.UserRepository;
 
 import java.util.List;
 
@@ -26,10 +21,15 @@ import java.util.List;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final UserSummaryLoader userSummaryLoader;
     private final LikeService likeService;
+    private final PostViewService postViewService;
+    private final RedisLikeService redisLikeService;
+    private final TrendingScoreService trendingScoreService;
+    private final PostDetailCache postDetailCache;
+    private final FeedService feedService;
     private final InterestService interestService;
-    private final InterestRepository interestRepository;
+    private final RecentPostIndex recentPostIndex;
 
     @Transactional
     public PostDetailResponse editPost(Long userId, EditPostRequest request) {
@@ -45,7 +45,7 @@ public class PostService {
     }
 
     private Post createNewPost(Long userId, EditPostRequest request) {
-        Interest interest = interestRepository.findById(request.getInterestId())
+        Interest interest = interestService.getInterest(request.getInterestId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 관심사입니다."));
 
         Post newPost = Post.builder()
@@ -58,16 +58,21 @@ public class PostService {
         PostContent newContent = new PostContent(newPost, request.getContent());
         newPost.setPostContent(newContent);
 
-        return postRepository.save(newPost);
+        Post savedPost = postRepository.save(newPost);
+        trendingScoreService.registerPost(savedPost.getId(), interest.getId(), savedPost.getCreatedAt());
+        feedService.addPost(savedPost);
+        recentPostIndex.add(savedPost);
+        return savedPost;
     }
 
     private Post updateExistingPost(Long userId, EditPostRequest request) {
         Post existingPost = findPostById(request.getId());
 
-        Interest interest = interestRepository.findById(request.getInterestId())
+        Interest interest = interestService.getInterest(request.getInterestId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 관심사입니다."));
 
         validatePostOwnership(existingPost, userId);
+        Long previousInterestId = existingPost.getInterest().getId();
         existingPost.update(request.getTitle(), interest, request.getThumbnailUrl());
 
         PostContent postContent = existingPost.getPostContent();
@@ -78,7 +83,11 @@ public class PostService {
             postContent.updateContent(request.getContent());
         }
 
-        return postRepository.save(existingPost);
+        Post savedPost = postRepository.save(existingPost);
+        postDetailCache.evict(savedPost.getId());
+        feedService.movePost(savedPost, previousInterestId);
+        trendingScoreService.changeInterest(savedPost.getId(), previousInterestId, interest.getId(), savedPost.getCreatedAt());
+        return savedPost;
     }
 
     private Post findPostById(Long postId) {
@@ -92,11 +101,19 @@ public class PostService {
         }
     }
 
-    @Transactional(readOnly = true)
     public PostDetailResponse getPostDetail(Long userId, Long postId) {
-        Post post = postRepository.findById(postId)
+        // 사용자와 무관한 부분만 캐시하고, 좋아요 수와 좋아요 여부는 매번 확인한다.
+        PostDetailSnapshot snapshot = postDetailCache.get(postId, this::loadPostDetailSnapshot);
+        postViewService.incrementViewCount(postId, userId);
+        long likeCount = likeService.getLikeCount(postId);
+        boolean userLiked = userLikePost(postId, userId);
+        return PostDetailResponse.from(snapshot, getWriterNickname(snapshot.getWriterId()), likeCount, userLiked);
+    }
+
+    private PostDetailSnapshot loadPostDetailSnapshot(Long postId) {
+        Post post = postRepository.findWithContentById(postId)
                 .orElseThrow(PostException.PostNotExistException::new);
-        return createPostDetailResponse(userId, post);
+        return PostDetailSnapshot.from(post, post.getPostContent());
     }
 
     private PostDetailResponse createPostDetailResponse(Long userId, Post post) {
@@ -104,7 +121,7 @@ public class PostService {
         Long writerId = post.getUserId();
         String writerNickname = getWriterNickname(writerId);
         Interest interest = post.getInterest();
-        long likeCount = likeService.getLikeCount(post.getId());
+        long likeCount = post.getLikeCount();
         boolean userLiked = userLikePost(post.getId(), userId);
 
         return PostDetailResponse.from(post, post.getPostContent(), writerNickname, interest, likeCount, userLiked);
@@ -115,32 +132,24 @@ public class PostService {
     }
 
     private String getWriterNickname(Long writerId) {
-        return userRepository.findById(writerId)
-                .map(user -> user.getNickname() != null ? user.getNickname() : user.getName())
-                .orElse("탈퇴한 사용자");
+        return userSummaryLoader.load(writerId).getNickname();
     }
 
     private boolean userLikePost(Long postId, Long userId) {
         return likeService.hasUserLiked(postId, userId);
     }
 
-    public Page<PostResponse> toPagePostResponse(Page<Post> pages) {
-        List<PostResponse> list = pages.getContent().stream()
-                .map(post -> {
-                    long likeCount = likeService.getLikeCount(post.getId());
-
-                    String writerId = String.valueOf(userRepository.findById(post.getUserId())
-                            .map(User::getEmail)
-                            .map(email -> email.split("@")[0]));
-
-                    return PostResponse.from(post, writerId, likeCount);
-                }).toList();
-        return new PageImpl<>(list, PageRequest.of(pages.getNumber(), pages.getSize()), pages.getTotalElements());
-    }
-
     public void softDeletePostByWithDrawUserId(Long userId) {
-        List<Post> posts = postRepository.findAllByUserId(userId);
+        List<Post> posts = postRepository.findAllByUserId(userId).stream()
+                .filter(post -> !post.isDeleted())
+                .toList();
         posts.forEach(Post::softDelete);
         postRepository.saveAll(posts);
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        redisLikeService.evictLikers(postIds);
+        postIds.forEach(postDetailCache::evict);
+        recentPostIndex.remove(postIds);
+        feedService.removePosts(posts);
+        trendingScoreService.removePosts(posts);
     }
 }
\ No newline at end of file
@@ -0,0 +1,247 @@
+package se.sowl.progapi.post.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class PostViewCountBuffer implements SmartLifecycle {
+    private static final int PIPELINE_BATCH_SIZE = 500;
+    private static final RedisScript<Long> INCR_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/incr_view_count.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TrendingScoreService trendingScoreService;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final long flushIntervalMillis;
+    private final int flushThreshold;
+
+    // 증가와 비우기를 모두 ConcurrentHashMap 의 compute 계열로 해서, 맵에서 빠진 카운터에 조회가 더해져 사라지는 일이 없게 한다.
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    // unique 모드의 조회는 처음 본 사용자인지 비우기 직전에 한 번에 확인한 뒤 pendingViews 에 더한다.
+    private final ConcurrentLinkedQueue<UniqueViewerCounter.PostViewer> pendingViewers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingViewerCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private ScheduledExecutorService flushExecutor;
+    private volatile boolean running = false;
+
+    public PostViewCountBuffer(
+            StringRedisTemplate redisTemplate,
+            TrendingScoreService trendingScoreService,
+            UniqueViewerCounter uniqueViewerCounter,
+            @Value("${post.view.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${post.view.flush-threshold:1000}") int flushThreshold
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.trendingScoreService = trendingScoreService;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushThreshold = flushThreshold;
+    }
+
+    public void increment(long postId) {
+        addPending(postId, 1);
+        scheduleFlushIfFull(pendingViews.size());
+    }
+
+    public void incrementViewer(long postId, long userId) {
+        pendingViewers.add(new UniqueViewerCounter.PostViewer(postId, userId));
+        scheduleFlushIfFull(pendingViewerCount.incrementAndGet());
+    }
+
+    private void scheduleFlushIfFull(int pendingSize) {
+        if (running && pendingSize >= flushThreshold && flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    private void addPending(long postId, long delta) {
+        pendingViews.compute(postId, (id, views) -> {
+            LongAdder counter = views != null ? views : new LongAdder();
+            counter.add(delta);
+            return counter;
+        });
+    }
+
+    public long getPendingCount(long postId) {
+        LongAdder views = pendingViews.get(postId);
+        return views != null ? views.sum() : 0L;
+    }
+
+    public synchronized void flush() {
+        flushScheduled.set(false);
+        countFirstViews();
+        Map<Long, Long> deltas = drainDeltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += PIPELINE_BATCH_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, entries.size()));
+            try {
+                writeViewCounts(chunk);
+            } catch (RuntimeException e) {
+                log.error("조회수 반영에 실패했습니다. 다음 주기에 다시 시도합니다. size={}", chunk.size(), e);
+                chunk.forEach(entry -> addPending(entry.getKey(), entry.getValue()));
+                continue;
+            }
+            recordTrendingScores(chunk);
+        }
+    }
+
+    private void recordTrendingScores(List<Map.Entry<Long, Long>> chunk) {
+        Map<Long, Long> views = new HashMap<>();
+        chunk.forEach(entry -> views.put(entry.getKey(), entry.getValue()));
+        try {
+            trendingScoreService.recordViews(views);
+        } catch (RuntimeException e) {
+            // 조회수는 이미 반영되었으므로 다시 쌓지 않는다. 트렌딩 점수만 이번 주기분이 빠진다.
+            log.error("트렌딩 점수 반영에 실패했습니다. size={}", chunk.size(), e);
+        }
+    }
+
+    private void countFirstViews() {
+        List<UniqueViewerCounter.PostViewer> viewers = new ArrayList<>();
+        UniqueViewerCounter.PostViewer viewer;
+        while ((viewer = pendingViewers.poll()) != null) {
+            pendingViewerCount.decrementAndGet();
+            viewers.add(viewer);
+        }
+        for (int from = 0; from < viewers.size(); from += PIPELINE_BATCH_SIZE) {
+            List<UniqueViewerCounter.PostViewer> chunk = viewers.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, viewers.size()));
+            List<Boolean> firstViews;
+            try {
+                firstViews = uniqueViewerCounter.recordViewers(chunk);
+            } catch (RuntimeException e) {
+                log.error("순 방문자 확인에 실패했습니다. 다음 주기에 다시 시도합니다. size={}", chunk.size(), e);
+                chunk.forEach(this::requeueViewer);
+                continue;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                if (firstViews.get(i)) {
+                    addPending(chunk.get(i).postId(), 1);
+                }
+            }
+        }
+    }
+
+    private void requeueViewer(UniqueViewerCounter.PostViewer viewer) {
+        pendingViewers.add(viewer);
+        pendingViewerCount.incrementAndGet();
+    }
+
+    private Map<Long, Long> drainDeltas() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // 카운터를 통째로 빼 가므로 그 뒤의 조회는 새 카운터에 쌓여 다음 주기에 반영된다.
+        for (Long postId : pendingViews.keySet()) {
+            pendingViews.computeIfPresent(postId, (id, views) -> {
+                long delta = views.sum();
+                if (delta > 0) {
+                    deltas.put(id, delta);
+                }
+                return null;
+            });
+        }
+        return deltas;
+    }
+
+    // 스크립트 본문 대신 SHA1 만 보낸다. Redis 가 재시작되어 스크립트가 없으면 파이프라인 전체가 NOSCRIPT 로 실패하므로,
+    // 아무것도 반영되지 않은 상태에서 스크립트를 올리고 한 번 더 보낸다.
+    private void writeViewCounts(List<Map.Entry<Long, Long>> chunk) {
+        try {
+            writeViewCountsWithSha(chunk);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    ((StringRedisConnection) connection).scriptLoad(INCR_SCRIPT.getScriptAsString()));
+            writeViewCountsWithSha(chunk);
+        }
+    }
+
+    private void writeViewCountsWithSha(List<Map.Entry<Long, Long>> chunk) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            // DB 에 아직 반영되지 않은 몫을 따로 쌓아 두고 PostViewCountPersister 가 가져간다.
+            chunk.forEach(entry -> stringConnection.evalSha(INCR_SCRIPT.getSha1(), ReturnType.INTEGER, 3,
+                    PostViewService.POST_VIEW_PRESET + entry.getKey(), PostViewCountPersister.PENDING_VIEWS_KEY,
+                    PostViewCountPersister.UNSEEDED_KEY, entry.getKey().toString(), entry.getValue().toString()));
+            return null;
+        });
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-view-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전에 남은 조회수를 모두 반영한다.
+        flushSafely();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 웹 서버가 요청을 모두 처리한 뒤, Redis 연결이 닫히기 전에 멈춘다.
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,227 @@
+package se.sowl.progapi.post.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sowl.progapi.common.scheduling.JobLease;
+import se.sowl.progapi.common.scheduling.ScheduledJobRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Redis 에만 있던 조회수를 posts.view_count 에 모아서 반영하고, Redis 가 비워지면 DB 값으로 다시 채운다.
+@Slf4j
+@Component
+public class PostViewCountPersister implements ApplicationRunner {
+    static final String PENDING_VIEWS_KEY = "post:views:pending";
+    static final String FLUSHING_VIEWS_KEY = "post:views:pending:flushing";
+    static final String FLUSHING_BATCH_KEY = "post:views:pending:flushing:batch";
+    private static final String LAST_BATCH_KEY = "post:views:flush_batch:last";
+    static final String SEEDED_KEY = "post:views:seeded";
+    static final String UNSEEDED_KEY = "post:views:unseeded";
+    private static final String PERSIST_JOB_NAME = "post-view-persist";
+    // 같은 묶음이 이미 더해진 게시글은 건너뛰므로, 커밋 뒤 Redis 에서 지우기 전에 멈춰 다시 반영해도 한 번만 더해진다.
+    private static final String UPDATE_VIEW_COUNT_SQL = "UPDATE posts SET view_count = view_count + ?, view_flush_batch = ? " +
+            "WHERE id = ? AND (view_flush_batch IS NULL OR view_flush_batch <> ?)";
+    private static final String SELECT_VIEW_COUNT_SQL = "SELECT id, view_count FROM posts WHERE id BETWEEN ? AND ? AND view_count > 0";
+    private static final String SELECT_VIEW_COUNT_BY_IDS_SQL = "SELECT id, view_count FROM posts WHERE id IN (:ids)";
+    private static final RedisScript<Long> NEXT_BATCH_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/next_view_flush_batch.lua"), Long.class);
+    private static final RedisScript<Long> SEED_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seed_view_count.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final int batchSize;
+    private final int reseedChunkSize;
+    private final int reseedParallelism;
+
+    public PostViewCountPersister(
+            StringRedisTemplate redisTemplate,
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ScheduledJobRunner scheduledJobRunner,
+            @Value("${post.view.persist.batch-size:500}") int batchSize,
+            @Value("${post.view.reseed.chunk-size:5000}") int reseedChunkSize,
+            @Value("${post.view.reseed.parallelism:4}") int reseedParallelism
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.batchSize = batchSize;
+        this.reseedChunkSize = reseedChunkSize;
+        this.reseedParallelism = reseedParallelism;
+    }
+
+    // 다시 채우는 동안 DB 에 반영 중인 몫이 움직이면 합이 어긋나므로, 반영 작업과 같은 잠금 안에서만 채운다.
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            scheduledJobRunner.runWithLease(PERSIST_JOB_NAME, Duration.ofMinutes(5), Duration.ZERO, lease -> reseedIfNeeded(lease));
+        } catch (RuntimeException e) {
+            log.error("조회수 재적재에 실패했습니다. 다음 반영 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void schedulePersist() {
+        scheduledJobRunner.runWithLease(PERSIST_JOB_NAME, Duration.ofMinutes(5), Duration.ofSeconds(30), lease -> {
+            reseedIfNeeded(lease);
+            seedMissingKeys(lease);
+            persistPendingViews(lease);
+        });
+    }
+
+    public void persistPendingViews() {
+        persistPendingViews(JobLease.unguarded());
+    }
+
+    // 잠금 시간을 넘긴 뒤 다른 노드가 같은 몫을 다시 반영하지 않도록, 묶음마다 잠금을 확인하고 잃었으면 멈춘다.
+    public void persistPendingViews(JobLease lease) {
+        // 이전 실행이 실패해서 남은 몫이 있으면 그것부터 반영하고, 없을 때만 새로 쌓인 몫을 떼어 온다.
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_VIEWS_KEY))) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_VIEWS_KEY))) {
+                return;
+            }
+            redisTemplate.rename(PENDING_VIEWS_KEY, FLUSHING_VIEWS_KEY);
+        }
+        long batchId = flushingBatchId();
+
+        Map<Object, Object> deltas = redisTemplate.opsForHash().entries(FLUSHING_VIEWS_KEY);
+        List<Map.Entry<Object, Object>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Object, Object>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            List<Object[]> updates = chunk.stream()
+                    .map(entry -> {
+                        long postId = Long.parseLong((String) entry.getKey());
+                        return new Object[]{Long.parseLong((String) entry.getValue()), batchId, postId, batchId};
+                    })
+                    .toList();
+            lease.renew();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, updates));
+            // 반영한 몫은 바로 지워서 다음 시도가 다시 읽을 양을 줄인다.
+            redisTemplate.opsForHash().delete(FLUSHING_VIEWS_KEY, chunk.stream().map(Map.Entry::getKey).toArray());
+        }
+        redisTemplate.delete(List.of(FLUSHING_VIEWS_KEY, FLUSHING_BATCH_KEY));
+    }
+
+    // 떼어 온 몫마다 묶음 번호를 하나 정하고, 다 반영할 때까지 다시 시도해도 같은 번호를 쓴다.
+    private long flushingBatchId() {
+        return Objects.requireNonNull(redisTemplate.execute(NEXT_BATCH_SCRIPT,
+                List.of(FLUSHING_BATCH_KEY, LAST_BATCH_KEY), String.valueOf(System.currentTimeMillis())));
+    }
+
+    // 표식은 전체를 다 채웠을 때만 남긴다. 중간에 실패하면 다음 주기에 처음부터 다시 채우는데, 키마다 값을 덮어쓰므로 두 번 더해지지 않는다.
+    // 표식이 남아 있어도 일부 키만 사라졌을 수 있으므로, 그런 게시글은 seedMissingKeys 가 따로 채운다.
+    public void reseedIfNeeded() {
+        reseedIfNeeded(JobLease.unguarded());
+    }
+
+    public void reseedIfNeeded(JobLease lease) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY))) {
+            return;
+        }
+
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM posts", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts", Long.class);
+        if (minId == null || maxId == null) {
+            markSeeded();
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(reseedParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "post-view-reseed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (long from = minId; from <= maxId; from += reseedChunkSize) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + reseedChunkSize - 1, maxId);
+                chunks.add(CompletableFuture.runAsync(() -> reseedChunk(chunkFrom, chunkTo, lease), executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        markSeeded();
+    }
+
+    private void markSeeded() {
+        redisTemplate.opsForValue().set(SEEDED_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+
+    // 조회수 키가 없을 때 조회가 더해진 게시글은 이번 몫만 가지고 있으므로 DB 값으로 다시 채운다.
+    public void seedMissingKeys() {
+        seedMissingKeys(JobLease.unguarded());
+    }
+
+    public void seedMissingKeys(JobLease lease) {
+        Set<String> postIds = redisTemplate.opsForSet().members(UNSEEDED_KEY);
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> viewCounts = new HashMap<>();
+        List<Long> ids = postIds.stream().map(Long::parseLong).toList();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            namedParameterJdbcTemplate.query(SELECT_VIEW_COUNT_BY_IDS_SQL, Map.of("ids", chunk), rs -> {
+                viewCounts.put(rs.getLong("id"), rs.getLong("view_count"));
+            });
+        }
+        // DB 에 없는 게시글은 0 에서 시작한다.
+        List<long[]> rows = ids.stream()
+                .map(id -> new long[]{id, viewCounts.getOrDefault(id, 0L)})
+                .toList();
+        lease.renew();
+        writeViewCounts(rows);
+    }
+
+    private void reseedChunk(long fromId, long toId, JobLease lease) {
+        List<long[]> viewCounts = jdbcTemplate.query(SELECT_VIEW_COUNT_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("view_count")}, fromId, toId);
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        lease.renew();
+        writeViewCounts(viewCounts);
+    }
+
+    // 비워진 뒤에 들어온 조회수는 아직 DB 에 반영되지 않은 몫에 함께 쌓여 있으므로, DB 값에 그 몫을 더한 값으로 덮어쓴다.
+    private void writeViewCounts(List<long[]> viewCounts) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            viewCounts.forEach(row -> stringConnection.eval(SEED_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 4,
+                    PostViewService.POST_VIEW_PRESET + row[0], PENDING_VIEWS_KEY, FLUSHING_VIEWS_KEY, UNSEEDED_KEY,
+                    String.valueOf(row[0]), String.valueOf(row[1])));
+            return null;
+        });
+    }
+}
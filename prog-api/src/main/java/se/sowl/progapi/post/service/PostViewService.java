@@ -8,18 +8,30 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class PostViewService {
+    public static final String POST_VIEW_PRESET = "post:views:";
+
     @Getter
     private final RedisTemplate<String, String> redisTemplate;
-    private final String POST_VIEW_PRESET = "post:views:";
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
 
     public void incrementViewCount(Long postId) {
-        String key = POST_VIEW_PRESET + postId;
-        redisTemplate.opsForValue().increment(key);
+        postViewCountBuffer.increment(postId);
+    }
+
+    public void incrementViewCount(Long postId, Long userId) {
+        // unique 모드에서는 같은 사용자의 반복 조회를 조회수와 트렌딩 점수에 한 번만 반영한다.
+        if (uniqueViewerCounter.isEnabled() && userId != null) {
+            postViewCountBuffer.incrementViewer(postId, userId);
+            return;
+        }
+        incrementViewCount(postId);
     }
 
     public Long getViewCount(Long postId) {
         String key = POST_VIEW_PRESET + postId;
         String count = redisTemplate.opsForValue().get(key);
-        return count != null ? Long.parseLong(count) : 0L;
+        long flushedCount = count != null ? Long.parseLong(count) : 0L;
+        return flushedCount + postViewCountBuffer.getPendingCount(postId);
     }
 }
@@ -0,0 +1,204 @@
+package se.sowl.progapi.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sowl.progapi.common.scheduling.ScheduledJobRunner;
+import se.sowl.progapi.common.transaction.AfterCommitRedisExecutor;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.domain.PostTimestamps;
+import se.sowl.progdomain.post.repository.PostCreatedAt;
+import se.sowl.progdomain.post.repository.PostRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 가장 최근 게시글 ID 를 Redis ZSET 에 정해진 개수만큼 두고, 살아 있는 게시글 수도 함께 센다.
+// 최근 게시글 앞쪽 페이지는 여기서 ID 만 읽고 DB 에서는 ID 로만 가져온다.
+@Slf4j
+@Component
+public class RecentPostIndex implements ApplicationRunner {
+    static final String RECENT_POSTS_KEY = "posts:recent";
+    static final String RECENT_POSTS_COUNT_KEY = "posts:recent:count";
+    private static final String RECENT_POSTS_REBUILD_KEY = "posts:recent:rebuild";
+    private static final String RECENT_POSTS_REMOVED_KEY = "posts:recent:removed";
+    private static final String REBUILD_JOB_NAME = "recent-post-index-rebuild";
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/update_recent_posts.lua"), Long.class);
+    private static final RedisScript<Long> FINISH_REBUILD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/finish_recent_posts_rebuild.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AfterCommitRedisExecutor afterCommitRedisExecutor;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final boolean enabled;
+    private final int maxSize;
+    // 이 노드에서는 다시 만들기를 한 번에 하나만 예약하고, 노드 사이에서는 잠금으로 한 곳만 실행한다.
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recent-post-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RecentPostIndex(
+            StringRedisTemplate redisTemplate,
+            AfterCommitRedisExecutor afterCommitRedisExecutor,
+            PostRepository postRepository,
+            TransactionTemplate transactionTemplate,
+            ScheduledJobRunner scheduledJobRunner,
+            @Value("${post.recent.index.enabled:true}") boolean enabled,
+            @Value("${post.recent.index.max-size:2000}") int maxSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.afterCommitRedisExecutor = afterCommitRedisExecutor;
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    public void add(Post post) {
+        if (!enabled) {
+            return;
+        }
+        String postId = post.getId().toString();
+        String score = String.valueOf(PostTimestamps.toScore(post.getCreatedAt()));
+        afterCommitRedisExecutor.execute(connection -> connection.eval(UPDATE_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 3,
+                RECENT_POSTS_KEY, RECENT_POSTS_COUNT_KEY, RECENT_POSTS_REMOVED_KEY, "add", postId, score, String.valueOf(maxSize)));
+    }
+
+    // 이미 삭제된 게시글을 넘기면 수가 두 번 줄어드므로 이번에 삭제한 게시글만 넘긴다.
+    public void remove(Collection<Long> postIds) {
+        if (!enabled || postIds.isEmpty()) {
+            return;
+        }
+        afterCommitRedisExecutor.execute(connection -> postIds.forEach(postId ->
+                connection.eval(UPDATE_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 3,
+                        RECENT_POSTS_KEY, RECENT_POSTS_COUNT_KEY, RECENT_POSTS_REMOVED_KEY, "remove", postId.toString())));
+    }
+
+    // 인덱스가 없거나 요청한 범위를 다 담고 있지 않으면 null 을 돌려 DB 에서 읽게 한다.
+    @SuppressWarnings("unchecked")
+    public Page<Long> findPage(Pageable pageable) {
+        if (!enabled || pageable.getSort().isSorted() || pageable.getOffset() >= maxSize) {
+            return null;
+        }
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.get(RECENT_POSTS_COUNT_KEY);
+                stringConnection.zRevRange(RECENT_POSTS_KEY, pageable.getOffset(), pageable.getOffset() + pageable.getPageSize() - 1);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("최근 게시글 인덱스를 읽지 못했습니다.", e);
+            return null;
+        }
+
+        String count = (String) results.get(0);
+        if (count == null) {
+            // Redis 가 비워졌다면 뒤에서 다시 만들고, 그동안의 요청은 DB 에서 읽는다.
+            scheduleRebuild();
+            return null;
+        }
+        long total = Long.parseLong(count);
+        List<Long> postIds = ((Set<String>) results.get(1)).stream()
+                .map(Long::parseLong)
+                .toList();
+        if (postIds.size() < pageable.getPageSize() && pageable.getOffset() + postIds.size() < total) {
+            return null;
+        }
+        return new PageImpl<>(postIds, pageable, total);
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuildScheduled.set(false);
+            log.warn("최근 게시글 인덱스 다시 만들기를 예약하지 못했습니다.", e);
+        }
+    }
+
+    // 수 키가 없을 때만, 여러 노드 중 잠금을 잡은 한 곳에서 다시 만든다.
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            scheduledJobRunner.run(REBUILD_JOB_NAME, Duration.ofMinutes(5), Duration.ZERO, () -> {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(RECENT_POSTS_COUNT_KEY))) {
+                    rebuildIndex();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("최근 게시글 인덱스를 다시 만들지 못했습니다.", e);
+        }
+    }
+
+    // DB 를 읽기 전에 모아 둔 변경을 비우고, 읽은 뒤에 모인 추가/삭제는 스크립트가 임시 키에 합쳐 RENAME 한다.
+    // 수 키는 마지막에 쓰므로 수 키가 보이면 ID 도 다 들어 있다.
+    private void rebuildIndex() {
+        redisTemplate.delete(List.of(RECENT_POSTS_KEY, RECENT_POSTS_REMOVED_KEY, RECENT_POSTS_REBUILD_KEY));
+        // 게시글 수와 목록을 같은 트랜잭션에서 읽어 같은 시점의 값으로 맞춘다.
+        Snapshot snapshot = transactionTemplate.execute(status -> new Snapshot(
+                postRepository.countByDeletedFalse(),
+                postRepository.findRecentCreatedAt(PageRequest.of(0, maxSize))));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            snapshot.posts().forEach(post ->
+                    stringConnection.zAdd(RECENT_POSTS_REBUILD_KEY, PostTimestamps.toScore(post.getCreatedAt()), post.getId().toString()));
+            stringConnection.eval(FINISH_REBUILD_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 4,
+                    RECENT_POSTS_REBUILD_KEY, RECENT_POSTS_KEY, RECENT_POSTS_COUNT_KEY, RECENT_POSTS_REMOVED_KEY,
+                    String.valueOf(snapshot.count()), String.valueOf(maxSize));
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private record Snapshot(long count, List<PostCreatedAt> posts) {
+    }
+}
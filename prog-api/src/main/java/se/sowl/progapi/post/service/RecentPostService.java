@@ -2,23 +2,85 @@ package se.sowl.progapi.post.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import se.sowl.progapi.post.dto.PostCursor;
 import se.sowl.progapi.post.dto.PostResponse;
-import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progapi.post.dto.PostSliceResponse;
 import se.sowl.progdomain.post.repository.PostRepository;
+import se.sowl.progdomain.post.repository.PostSummary;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class RecentPostService {
 
     private final PostRepository postRepository;
-    private final PostService postService;
+    private final PostResponseAssembler postResponseAssembler;
+    private final RecentPostIndex recentPostIndex;
+
+    // 앞쪽 페이지는 Redis 인덱스의 ID 와 게시글 수로 만들고, 인덱스가 담지 못한 페이지만 DB 에서 정렬해 읽는다.
+    @Transactional(readOnly = true)
+    public Page<PostResponse> getRecentPosts(Long userId, Pageable pageable) {
+        Page<Long> indexedPage = recentPostIndex.findPage(pageable);
+        if (indexedPage != null) {
+            List<PostResponse> posts = postResponseAssembler.assembleInOrder(indexedPage.getContent(), userId);
+            return new PageImpl<>(posts, pageable, indexedPage.getTotalElements());
+        }
+        Page<PostSummary> postsPage = postRepository.findSummaryPage(pageable);
+        return postResponseAssembler.assemble(postsPage, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PostResponse> getRecentPosts(Long userId, Long interestId, Pageable pageable) {
+        if (interestId == null) {
+            return getRecentPosts(userId, pageable);
+        }
+        Page<PostSummary> postsPage = postRepository.findSummaryPageByInterestId(interestId, pageable);
+        return postResponseAssembler.assemble(postsPage, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public PostSliceResponse getRecentPosts(Long userId, String cursor, int size) {
+        if (cursor == null) {
+            // 한 개 더 읽어 다음 페이지가 있는지 본다. 다음 커서부터는 DB 키셋으로 이어 읽는다.
+            Page<Long> indexedPage = recentPostIndex.findPage(PageRequest.of(0, size + 1));
+            if (indexedPage != null) {
+                List<PostResponse> posts = postResponseAssembler.assembleInOrder(indexedPage.getContent(), userId);
+                boolean hasNext = posts.size() > size;
+                return PostSliceResponse.of(hasNext ? posts.subList(0, size) : posts, hasNext);
+            }
+        }
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<PostSummary> postsSlice = cursor == null
+                ? postRepository.findSummarySlice(pageable)
+                : findSliceBefore(PostCursor.decode(cursor), pageable);
+        return PostSliceResponse.of(postResponseAssembler.assemble(postsSlice.getContent(), userId), postsSlice.hasNext());
+    }
 
+    // (interest_id, deleted, created_at, id) 인덱스를 따라 관심사 안에서만 커서 이후를 읽는다.
     @Transactional(readOnly = true)
-    public Page<PostResponse> getRecentPosts(Pageable pageable) {
-        Page<Post> postsPage = postRepository.findAllByDeletedFalseOrderByCreatedAtDesc(pageable);
-        return postService.toPagePostResponse(postsPage);
+    public PostSliceResponse getRecentPosts(Long userId, Long interestId, String cursor, int size) {
+        if (interestId == null) {
+            return getRecentPosts(userId, cursor, size);
+        }
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<PostSummary> postsSlice;
+        if (cursor == null) {
+            postsSlice = postRepository.findSummarySliceByInterestId(interestId, pageable);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            postsSlice = postRepository.findSummarySliceByInterestIdBefore(interestId, postCursor.getCreatedAt(), postCursor.getId(), pageable);
+        }
+        return PostSliceResponse.of(postResponseAssembler.assemble(postsSlice.getContent(), userId), postsSlice.hasNext());
+    }
+
+    private Slice<PostSummary> findSliceBefore(PostCursor cursor, Pageable pageable) {
+        return postRepository.findSummarySliceBefore(cursor.getCreatedAt(), cursor.getId(), pageable);
     }
 }
@@ -0,0 +1,148 @@
+package se.sowl.progapi.post.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import se.sowl.progapi.common.transaction.AfterCommitRedisExecutor;
+import se.sowl.progapi.post.dto.LikeResponse;
+import se.sowl.progapi.post.exception.PostException;
+import se.sowl.progdomain.post.repository.LikeRepository;
+import se.sowl.progdomain.post.repository.PostRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class RedisLikeService {
+    static final String POST_LIKERS_PRESET = "post:likers:";
+    // 좋아요가 하나도 없는 게시글도 적재 여부를 구분할 수 있도록 집합에 항상 넣어두는 멤버
+    private static final String LIKERS_SENTINEL = "-";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE_LIKE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/toggle_like.lua"), List.class);
+    private static final RedisScript<Long> LOAD_LIKERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/load_likers.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final LikeWriteBehindQueue likeWriteBehindQueue;
+    private final TrendingScoreService trendingScoreService;
+    private final AfterCommitRedisExecutor afterCommitRedisExecutor;
+    private final String likersTtlSeconds;
+
+    public RedisLikeService(
+            StringRedisTemplate redisTemplate,
+            LikeRepository likeRepository,
+            PostRepository postRepository,
+            LikeWriteBehindQueue likeWriteBehindQueue,
+            TrendingScoreService trendingScoreService,
+            AfterCommitRedisExecutor afterCommitRedisExecutor,
+            @Value("${post.like.likers-ttl-seconds:86400}") long likersTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.likeRepository = likeRepository;
+        this.postRepository = postRepository;
+        this.likeWriteBehindQueue = likeWriteBehindQueue;
+        this.trendingScoreService = trendingScoreService;
+        this.afterCommitRedisExecutor = afterCommitRedisExecutor;
+        this.likersTtlSeconds = String.valueOf(likersTtlSeconds);
+    }
+
+    public LikeResponse toggleLike(Long postId, Long userId) {
+        return executeLike(postId, userId, "toggle");
+    }
+
+    public LikeResponse like(Long postId, Long userId) {
+        return executeLike(postId, userId, "like");
+    }
+
+    public LikeResponse unlike(Long postId, Long userId) {
+        return executeLike(postId, userId, "unlike");
+    }
+
+    private LikeResponse executeLike(Long postId, Long userId, String mode) {
+        List<Long> result = executeScript(postId, userId, mode);
+        if (result.get(0) < 0) {
+            loadLikers(postId);
+            result = executeScript(postId, userId, mode);
+        }
+
+        boolean liked = result.get(0) == 1;
+        // 이미 원하는 상태였다면 DB 반영도 점수 갱신도 하지 않는다.
+        // 집합이 실제로 바뀐 경우만 넘기므로 DB 의 좋아요 수도 이 변경 수대로 움직인다.
+        if (result.get(2) == 1) {
+            likeWriteBehindQueue.enqueue(postId, userId, liked);
+            trendingScoreService.recordLike(postId, liked ? 1 : -1);
+        }
+        return LikeResponse.createResponse(postId, liked, result.get(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> executeScript(Long postId, Long userId, String mode) {
+        List<String> keys = List.of(POST_LIKERS_PRESET + postId, LikeService.POST_LIKE_COUNT_PRESET + postId);
+        return (List<Long>) redisTemplate.execute(TOGGLE_LIKE_SCRIPT, keys, userId.toString(), mode, likersTtlSeconds);
+    }
+
+    // 두 요청이 함께 적재할 때 늦게 읽은 DB 값이 먼저 적재되어 토글된 집합을 덮지 않도록, 없을 때만 스크립트 안에서 채운다.
+    private void loadLikers(Long postId) {
+        if (!postRepository.existsByIdAndDeletedFalse(postId)) {
+            throw new PostException.PostNotExistException();
+        }
+        List<String> args = new ArrayList<>();
+        args.add(likersTtlSeconds);
+        args.add(LIKERS_SENTINEL);
+        likeRepository.findUserIdsByPostId(postId).forEach(userId -> args.add(userId.toString()));
+        redisTemplate.execute(LOAD_LIKERS_SCRIPT, List.of(POST_LIKERS_PRESET + postId), args.toArray());
+    }
+
+    // 사용자 집합이 적재되어 있지 않다면 null 을 반환한다.
+    public Boolean findUserLiked(Long postId, Long userId) {
+        String key = POST_LIKERS_PRESET + postId;
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.exists(key);
+            stringConnection.sIsMember(key, userId.toString());
+            return null;
+        });
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            return null;
+        }
+        return Boolean.TRUE.equals(results.get(1));
+    }
+
+    // 좋아요 집합이 올라와 있는 게시글만 결과에 담고, 나머지는 호출한 쪽에서 DB 로 확인한다.
+    public Map<Long, Boolean> findUserLiked(List<Long> postIds, Long userId) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            postIds.forEach(postId -> {
+                stringConnection.exists(POST_LIKERS_PRESET + postId);
+                stringConnection.sIsMember(POST_LIKERS_PRESET + postId, userId.toString());
+            });
+            return null;
+        });
+        Map<Long, Boolean> liked = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i * 2))) {
+                liked.put(postIds.get(i), Boolean.TRUE.equals(results.get(i * 2 + 1)));
+            }
+        }
+        return liked;
+    }
+
+    public void evictLikers(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        String[] keys = postIds.stream().map(postId -> POST_LIKERS_PRESET + postId).toArray(String[]::new);
+        afterCommitRedisExecutor.execute(connection -> connection.del(keys));
+    }
+}
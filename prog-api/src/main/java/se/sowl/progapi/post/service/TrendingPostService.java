@@ -3,71 +3,78 @@ package se.sowl.progapi.post.service;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import se.sowl.progapi.common.scheduling.ScheduledJobRunner;
 import se.sowl.progapi.post.dto.PostResponse;
-import se.sowl.progdomain.post.domain.Post;
-import se.sowl.progdomain.post.repository.PostRepository;
 
-import java.time.LocalDateTime;
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+
+import static se.sowl.progapi.post.service.TrendingScoreService.TRENDING_INTEREST_PRESET;
+import static se.sowl.progapi.post.service.TrendingScoreService.TRENDING_POSTS_KEY;
 
 @Service
 @RequiredArgsConstructor
 public class TrendingPostService {
     @Getter
     private final StringRedisTemplate redisTemplate;
-    private final PostViewService postViewService;
-    private final LikeService likeService;
-    private final PostService postService;
-    private final PostRepository postRepository;
-
-    private static final String TRENDING_POSTS_KEY = "posts:trending";
-    private static final int TRENDING_POSTS_COUNT = 100;
-    private static final double VIEW_WEIGHT = 1.0;
-    private static final double LIKE_WEIGHT = 2.0;
+    private final PostResponseAssembler postResponseAssembler;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TrendingScoreService trendingScoreService;
 
-    public void updatePostScore(Long postId) {
-        double score = getScore(postId);
-        redisTemplate.opsForZSet().add(TRENDING_POSTS_KEY, postId.toString(), score);
-        redisTemplate.opsForZSet().removeRange(TRENDING_POSTS_KEY, 0, -TRENDING_POSTS_COUNT - 1);
+    public Page<PostResponse> getTrendingPosts(Long userId, Pageable pageable) {
+        return getTrendingPosts(userId, null, pageable);
     }
 
-    public Page<PostResponse> getTrendingPosts(Pageable pageable) {
-        List<Long> postIdList = this.getPostIds(pageable.getPageNumber(), pageable.getPageSize());
-        Page<Post> postPages = postRepository.findAllByIdInAndDeletedFalse(postIdList, pageable);
-        return postService.toPagePostResponse(postPages);
-    }
+    // 관심사를 지정하면 같은 방식으로 관심사별 랭킹에서 읽는다.
+    public Page<PostResponse> getTrendingPosts(Long userId, Long interestId, Pageable pageable) {
+        String rankingKey = interestId == null ? TRENDING_POSTS_KEY : TRENDING_INTEREST_PRESET + interestId;
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+
+        // 순위 구간과 전체 개수를 한 번의 파이프라인으로 가져온다.
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zRevRangeWithScores(rankingKey, start, end);
+            stringConnection.zCard(rankingKey);
+            return null;
+        });
+        List<Long> rankedPostIds = toPostIds(results.get(0));
+        long totalElements = results.get(1) != null ? (Long) results.get(1) : 0L;
 
-    private List<Long> getPostIds(long start, long end) {
-        Set<String> postIds = redisTemplate.opsForZSet().reverseRange(TRENDING_POSTS_KEY, start, end);
-        if (postIds == null || postIds.isEmpty()) {
-            return Collections.emptyList();
+        if (rankedPostIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, totalElements);
         }
-        return postIds.stream().map(Long::parseLong).collect(Collectors.toList());
+        return new PageImpl<>(postResponseAssembler.assembleInOrder(rankedPostIds, userId), pageable, totalElements);
     }
 
-    private double getScore(Long postId) {
-        long views = postViewService.getViewCount(postId);
-        long likes = likeService.getLikeCount(postId);
-        return calculateScore(views, likes);
+    @SuppressWarnings("unchecked")
+    private List<Long> toPostIds(Object rankedTuples) {
+        if (rankedTuples == null) {
+            return List.of();
+        }
+        return ((Set<TypedTuple<String>>) rankedTuples).stream()
+                .map(TypedTuple::getValue)
+                .filter(Objects::nonNull)
+                .map(Long::parseLong)
+                .toList();
     }
 
-    private double calculateScore(long views, long likes) {
-        return (views * VIEW_WEIGHT) + (likes * LIKE_WEIGHT);
+    @Scheduled(cron = "0 0 * * * *")
+    public void scheduleCleanupOldPosts() {
+        scheduledJobRunner.run("trending-cleanup", Duration.ofMinutes(30), Duration.ofMinutes(5), this::cleanupOldPosts);
     }
 
-    @Scheduled(cron = "0 0 * * * *")
     public void cleanupOldPosts() {
-        LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
-        List<Post> oldPosts = postRepository.findByCreatedAtBefore(oneMonthAgo);
-        for (Post post : oldPosts) {
-            redisTemplate.opsForZSet().remove(TRENDING_POSTS_KEY, post.getId().toString());
-        }
+        trendingScoreService.removeExpiredPosts();
     }
 }
@@ -0,0 +1,289 @@
+package se.sowl.progapi.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import se.sowl.progapi.common.scheduling.JobLease;
+import se.sowl.progapi.common.scheduling.ScheduledJobRunner;
+import se.sowl.progapi.interest.service.InterestService;
+import se.sowl.progapi.common.transaction.AfterCommitRedisExecutor;
+import se.sowl.progdomain.interest.domain.Interest;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.domain.PostTimestamps;
+import se.sowl.progdomain.post.repository.PostCreatedAt;
+import se.sowl.progdomain.post.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingScoreService {
+    public static final String TRENDING_POSTS_KEY = "posts:trending";
+    private static final String TRENDING_BUCKET_PRESET = "posts:trending:bucket:";
+    // 트렌딩 대상 게시글의 작성 시각(epoch 마이크로초)을 점수로 둔 보조 집합. 만료 정리를 점수 구간 조회로 끝낸다.
+    static final String TRENDING_CREATED_AT_KEY = "posts:trending:created_at";
+    // 관심사별 랭킹과, 그 랭킹을 뽑을 때 교집합으로 쓰는 관심사별 게시글 집합(점수는 작성 시각).
+    static final String TRENDING_INTEREST_PRESET = "posts:trending:interest:";
+    private static final String TRENDING_INTEREST_MEMBERS_PRESET = "posts:trending:interest_members:";
+    // 관심사별 게시글 집합을 DB 에서 한 번 채웠다는 표식. Redis 가 비워지면 함께 사라져 다시 채운다.
+    // 작성 시각 점수를 밀리초에서 마이크로초로 바꾸면서 이름을 바꿔, 남아 있던 밀리초 점수를 한 번 다시 채워 덮어쓴다.
+    private static final String TRENDING_MEMBERS_BACKFILLED_KEY = "posts:trending:members_backfilled:micros";
+    // 합치는 도중에 실패해도 임시 키가 남지 않도록 만들자마자 만료를 건다.
+    private static final Duration MERGE_KEY_TTL = Duration.ofMinutes(5);
+    private static final int TRENDING_POSTS_COUNT = 100;
+    private static final int TRENDING_CANDIDATE_COUNT = TRENDING_POSTS_COUNT * 2;
+    private static final int EXPIRE_BATCH_SIZE = 1000;
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 2.0;
+
+    // 한 시간 단위 버킷에 점수를 쌓고, 6시간마다 가중치가 절반으로 줄어든다.
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+    private static final int BUCKET_WINDOW = 48;
+    private static final double HALF_LIFE_BUCKETS = 6.0;
+    private static final long BUCKET_TTL_SECONDS = Duration.ofHours(BUCKET_WINDOW + 1).toSeconds();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final PostRepository postRepository;
+    private final AfterCommitRedisExecutor afterCommitRedisExecutor;
+    private final InterestService interestService;
+
+    public void registerPost(Long postId, Long interestId, LocalDateTime createdAt) {
+        double score = PostTimestamps.toScore(createdAt);
+        afterCommitRedisExecutor.execute(connection -> {
+            connection.zAdd(TRENDING_CREATED_AT_KEY, score, postId.toString());
+            connection.zAdd(interestMembersKey(interestId), score, postId.toString());
+        });
+    }
+
+    public void changeInterest(Long postId, Long previousInterestId, Long interestId, LocalDateTime createdAt) {
+        if (previousInterestId.equals(interestId)) {
+            return;
+        }
+        double score = PostTimestamps.toScore(createdAt);
+        afterCommitRedisExecutor.execute(connection -> {
+            connection.zRem(interestMembersKey(previousInterestId), postId.toString());
+            connection.zAdd(interestMembersKey(interestId), score, postId.toString());
+        });
+    }
+
+    public void removePosts(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        afterCommitRedisExecutor.execute(connection -> posts.forEach(post -> {
+            String postId = post.getId().toString();
+            Long interestId = post.getInterest().getId();
+            connection.zRem(TRENDING_POSTS_KEY, postId);
+            connection.zRem(TRENDING_CREATED_AT_KEY, postId);
+            connection.zRem(TRENDING_INTEREST_PRESET + interestId, postId);
+            connection.zRem(interestMembersKey(interestId), postId);
+        }));
+    }
+
+    public void recordLike(Long postId, int delta) {
+        incrementScores(Map.of(postId, delta * LIKE_WEIGHT));
+    }
+
+    public void recordViews(Map<Long, Long> views) {
+        Map<Long, Double> scores = new HashMap<>();
+        views.forEach((postId, count) -> scores.put(postId, count * VIEW_WEIGHT));
+        incrementScores(scores);
+    }
+
+    private void incrementScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        String bucketKey = bucketKey(currentBucket());
+        afterCommitRedisExecutor.execute(connection -> {
+            scores.forEach((postId, score) -> connection.zIncrBy(bucketKey, score, postId.toString()));
+            connection.expire(bucketKey, BUCKET_TTL_SECONDS);
+        });
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void scheduleTrendingRefresh() {
+        scheduledJobRunner.runWithLease("trending-refresh", Duration.ofMinutes(5), Duration.ofSeconds(30), lease -> {
+            backfillInterestMembers(lease);
+            refreshTrendingPosts();
+        });
+    }
+
+    public void backfillInterestMembers() {
+        backfillInterestMembers(JobLease.unguarded());
+    }
+
+    // 배포 전 게시글은 관심사별 게시글 집합에 없어서 관심사 랭킹에 오르지 못하므로, 만료 전 게시글을 DB 에서 한 번 채운다.
+    // 점수가 작성 시각이라 새 글 등록과 겹쳐 두 번 넣어도 결과가 같다.
+    public void backfillInterestMembers(JobLease lease) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(TRENDING_MEMBERS_BACKFILLED_KEY))) {
+            return;
+        }
+        LocalDateTime cutoff = expiryCutoff();
+        long lastId = 0L;
+        while (true) {
+            List<PostCreatedAt> posts = postRepository.findCreatedAtAfter(cutoff, lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (posts.isEmpty()) {
+                break;
+            }
+            lease.renew();
+            addMembers(posts);
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+        redisTemplate.opsForValue().set(TRENDING_MEMBERS_BACKFILLED_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+
+    public void refreshTrendingPosts() {
+        long currentBucket = currentBucket();
+        List<String> bucketKeys = new ArrayList<>();
+        double[] weights = new double[BUCKET_WINDOW];
+        for (int age = 0; age < BUCKET_WINDOW; age++) {
+            bucketKeys.add(bucketKey(currentBucket - age));
+            weights[age] = Math.pow(0.5, age / HALF_LIFE_BUCKETS);
+        }
+
+        // 임시 키에 합친 뒤 RENAME 으로 교체해서 읽는 쪽이 비어 있는 랭킹을 보지 않게 한다.
+        String mergedKey = TRENDING_POSTS_KEY + ":merge:" + UUID.randomUUID();
+        Long merged = redisTemplate.opsForZSet().unionAndStore(
+                bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), mergedKey, Aggregate.SUM, Weights.of(weights));
+        redisTemplate.expire(mergedKey, MERGE_KEY_TTL);
+
+        if (merged != null && merged > 0) {
+            refreshInterestTrendingPosts(mergedKey);
+            redisTemplate.opsForZSet().removeRange(mergedKey, 0, -TRENDING_CANDIDATE_COUNT - 1);
+            removeExpiredCandidates(mergedKey);
+            redisTemplate.opsForZSet().removeRange(mergedKey, 0, -TRENDING_POSTS_COUNT - 1);
+        }
+
+        Long remaining = redisTemplate.opsForZSet().zCard(mergedKey);
+        if (remaining == null || remaining == 0) {
+            redisTemplate.delete(TRENDING_POSTS_KEY);
+            return;
+        }
+        // RENAME 은 만료도 함께 옮기므로 바꾼 뒤에 만료를 지운다.
+        redisTemplate.rename(mergedKey, TRENDING_POSTS_KEY);
+        redisTemplate.persist(TRENDING_POSTS_KEY);
+    }
+
+    // 전체 점수와 관심사별 게시글 집합(가중치 0)의 교집합으로 관심사마다 랭킹을 만든다.
+    // 관심사 집합에서 만료된 게시글을 먼저 지우므로 교집합에도 남지 않는다.
+    private void refreshInterestTrendingPosts(String mergedKey) {
+        List<Long> interestIds = interestService.getList().stream().map(Interest::getId).toList();
+        double cutoff = PostTimestamps.toScore(expiryCutoff());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            interestIds.forEach(interestId -> {
+                String membersKey = interestMembersKey(interestId);
+                String trendingKey = TRENDING_INTEREST_PRESET + interestId;
+                stringConnection.zRemRangeByScore(membersKey, Double.NEGATIVE_INFINITY, cutoff);
+                // 결과가 비면 ZINTERSTORE 가 대상 키를 지우므로 이전 랭킹이 남지 않는다.
+                stringConnection.zInterStore(trendingKey, Aggregate.SUM, Weights.of(1, 0), mergedKey, membersKey);
+                stringConnection.zRemRange(trendingKey, 0, -TRENDING_POSTS_COUNT - 1);
+            });
+            return null;
+        });
+    }
+
+    // 만료된 게시글이 점수를 받아도 다시 트렌딩에 올라오지 않도록 후보 단계에서 걸러낸다.
+    private void removeExpiredCandidates(String mergedKey) {
+        List<String> candidates = new ArrayList<>(Objects.requireNonNull(redisTemplate.opsForZSet().range(mergedKey, 0, -1)));
+        List<Object> createdAtScores = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            candidates.forEach(postId -> stringConnection.zScore(TRENDING_CREATED_AT_KEY, postId));
+            return null;
+        });
+
+        Map<Long, Double> createdAtByPostId = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            createdAtByPostId.put(Long.parseLong(candidates.get(i)), (Double) createdAtScores.get(i));
+        }
+        registerMissingPosts(createdAtByPostId);
+
+        double cutoff = PostTimestamps.toScore(expiryCutoff());
+        Object[] expired = createdAtByPostId.entrySet().stream()
+                .filter(entry -> entry.getValue() == null || entry.getValue() < cutoff)
+                .map(entry -> entry.getKey().toString())
+                .toArray();
+        if (expired.length > 0) {
+            redisTemplate.opsForZSet().remove(mergedKey, expired);
+        }
+    }
+
+    // 보조 집합에 없는 후보(배포 전 게시글 등)만 id, 작성 시각 두 컬럼으로 조회해 채운다.
+    // DB 에 없거나 삭제된 게시글은 null 로 남겨 만료로 취급한다.
+    private void registerMissingPosts(Map<Long, Double> createdAtByPostId) {
+        List<Long> missing = createdAtByPostId.entrySet().stream()
+                .filter(entry -> entry.getValue() == null)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        List<PostCreatedAt> found = postRepository.findCreatedAtByIdIn(missing);
+        addMembers(found);
+        found.forEach(post -> createdAtByPostId.put(post.getId(), PostTimestamps.toScore(post.getCreatedAt())));
+    }
+
+    private void addMembers(List<PostCreatedAt> posts) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            posts.forEach(post -> {
+                stringConnection.zAdd(TRENDING_CREATED_AT_KEY, PostTimestamps.toScore(post.getCreatedAt()), post.getId().toString());
+                stringConnection.zAdd(interestMembersKey(post.getInterestId()), PostTimestamps.toScore(post.getCreatedAt()), post.getId().toString());
+            });
+            return null;
+        });
+    }
+
+    public void removeExpiredPosts() {
+        double cutoff = PostTimestamps.toScore(expiryCutoff());
+        while (true) {
+            Set<String> expired = redisTemplate.opsForZSet()
+                    .rangeByScore(TRENDING_CREATED_AT_KEY, Double.NEGATIVE_INFINITY, cutoff, 0, EXPIRE_BATCH_SIZE);
+            if (expired == null || expired.isEmpty()) {
+                return;
+            }
+            String[] postIds = expired.toArray(new String[0]);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.zRem(TRENDING_POSTS_KEY, postIds);
+                stringConnection.zRem(TRENDING_CREATED_AT_KEY, postIds);
+                return null;
+            });
+        }
+    }
+
+    private static String interestMembersKey(Long interestId) {
+        return TRENDING_INTEREST_MEMBERS_PRESET + interestId;
+    }
+
+    static LocalDateTime expiryCutoff() {
+        return LocalDateTime.now().minusMonths(1);
+    }
+
+    static long currentBucket() {
+        return System.currentTimeMillis() / BUCKET_MILLIS;
+    }
+
+    static String bucketKey(long bucket) {
+        return TRENDING_BUCKET_PRESET + bucket;
+    }
+}
@@ -0,0 +1,75 @@
+package se.sowl.progapi.post.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 게시글별로 중복 확인 구간마다 본 사용자를 크기가 정해진 비트맵(12KB)에 해시해서 표시한다. 방문자가 늘어도 키 크기는 그대로다.
+// 처음 본 사용자의 조회만 조회수와 트렌딩 점수에 반영되므로, 트렌딩 점수는 구간별 순 방문자 수로 쌓인다.
+@Component
+public class UniqueViewerCounter {
+    private static final String VIEWER_SEEN_PRESET = "post:viewers:seen:";
+    private static final long SEEN_BITMAP_BITS = 12 * 1024 * 8;
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long dedupWindowSeconds;
+
+    public UniqueViewerCounter(
+            StringRedisTemplate redisTemplate,
+            @Value("${post.view.mode:raw}") String viewMode,
+            @Value("${post.view.dedup-window-seconds:600}") long dedupWindowSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = "unique".equalsIgnoreCase(viewMode);
+        this.dedupWindowSeconds = dedupWindowSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 같은 사용자가 중복 확인 구간 안에서 처음 본 경우에만 true 를 돌려준다.
+    public boolean recordViewer(long postId, long userId) {
+        return recordViewers(List.of(new PostViewer(postId, userId))).get(0);
+    }
+
+    // 조회 요청마다 Redis 를 오가지 않도록 PostViewCountBuffer 가 모아 둔 조회를 한 번에 확인한다.
+    // 해시가 겹친 다른 사용자는 이미 본 것으로 처리되며, 그 비율은 구간 안 방문자 수 / 비트 수 정도다.
+    public List<Boolean> recordViewers(List<PostViewer> viewers) {
+        long window = System.currentTimeMillis() / 1000 / dedupWindowSeconds;
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            viewers.forEach(viewer -> {
+                String seenKey = seenKey(viewer.postId(), window);
+                stringConnection.setBit(seenKey, Math.floorMod(mix(viewer.userId()), SEEN_BITMAP_BITS), true);
+                stringConnection.expire(seenKey, dedupWindowSeconds);
+            });
+            return null;
+        });
+        List<Boolean> firstViews = new ArrayList<>(viewers.size());
+        for (int i = 0; i < viewers.size(); i++) {
+            firstViews.add(Boolean.FALSE.equals(results.get(i * 2)));
+        }
+        return firstViews;
+    }
+
+    // 연속된 사용자 ID 가 비트맵 전체에 고르게 퍼지도록 섞는다.
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    static String seenKey(long postId, long window) {
+        return VIEWER_SEEN_PRESET + postId + ":" + window;
+    }
+
+    public record PostViewer(long postId, long userId) {
+    }
+}
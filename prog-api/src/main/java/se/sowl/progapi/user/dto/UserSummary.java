@@ -0,0 +1,28 @@
+package se.sowl.progapi.user.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import se.sowl.progdomain.user.domain.User;
+
+// 게시글 목록/상세에서 작성자를 표시하는 데 필요한 정보만 담는다.
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserSummary {
+    private static final String UNKNOWN_NICKNAME = "탈퇴한 사용자";
+
+    private final Long id;
+    private final String nickname;
+    private final String handle;
+    private final boolean deleted;
+
+    public static UserSummary from(User user) {
+        String nickname = user.getNickname() != null ? user.getNickname() : user.getName();
+        String handle = user.getEmail() != null ? user.getEmail().split("@")[0] : null;
+        return new UserSummary(user.getId(), nickname, handle, user.isDeleted());
+    }
+
+    public static UserSummary unknown(Long userId) {
+        return new UserSummary(userId, UNKNOWN_NICKNAME, null, true);
+    }
+}
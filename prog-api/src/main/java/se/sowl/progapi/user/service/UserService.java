@@ -28,6 +28,7 @@ public class UserService {
 
     private final UserInterestService userInterestService;
     private final PostService postService;
+    private final UserSummaryLoader userSummaryLoader;
 
     public UserInfoRequest getUserInfo(Long userId) {
         User user = userRepository.findById(userId)
@@ -54,6 +55,7 @@ public class UserService {
         User user = userRepository.findById(userId).orElseThrow();
         user.updateNickname(request.getNickname());
         userRepository.save(user);
+        userSummaryLoader.evict(userId);
     }
 
     @Transactional
@@ -63,6 +65,7 @@ public class UserService {
 
         softDeleteWithdrawUser(user);
         postService.softDeletePostByWithDrawUserId(userId);
+        userSummaryLoader.evict(userId);
     }
 
     private void softDeleteWithdrawUser (User user){
@@ -0,0 +1,68 @@
+package se.sowl.progapi.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import se.sowl.progapi.common.cache.CacheInvalidationBus;
+import se.sowl.progapi.user.dto.UserSummary;
+import se.sowl.progdomain.user.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// 작성자 정보를 모아서 한 번에 읽고, 노드마다 작은 로컬 캐시에 둔다.
+@Component
+public class UserSummaryLoader {
+    static final String CACHE_NAME = "user-summary";
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, UserSummary> cache;
+
+    public UserSummaryLoader(
+            UserRepository userRepository,
+            CacheInvalidationBus invalidationBus,
+            @Value("${user.summary.cache.size:10000}") long cacheSize,
+            @Value("${user.summary.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        invalidationBus.register(CACHE_NAME, key -> cache.invalidate(Long.parseLong(key)));
+    }
+
+    public UserSummary load(Long userId) {
+        return loadAll(Set.of(userId)).get(userId);
+    }
+
+    // 캐시에 없는 사용자만 findAllById 한 번으로 읽는다. 없는 사용자도 캐시해 매번 DB 로 가지 않는다.
+    public Map<Long, UserSummary> loadAll(Collection<Long> userIds) {
+        Set<Long> distinctIds = new HashSet<>(userIds);
+        Map<Long, UserSummary> summaries = new HashMap<>(cache.getAllPresent(distinctIds));
+        if (summaries.size() == distinctIds.size()) {
+            return summaries;
+        }
+
+        Set<Long> missingIds = new HashSet<>(distinctIds);
+        missingIds.removeAll(summaries.keySet());
+        Map<Long, UserSummary> loaded = new HashMap<>();
+        userRepository.findAllById(missingIds).forEach(user -> loaded.put(user.getId(), UserSummary.from(user)));
+        missingIds.forEach(userId -> loaded.putIfAbsent(userId, UserSummary.unknown(userId)));
+
+        cache.putAll(loaded);
+        summaries.putAll(loaded);
+        return summaries;
+    }
+
+    public void evict(Long userId) {
+        invalidationBus.publish(CACHE_NAME, userId.toString());
+    }
+}
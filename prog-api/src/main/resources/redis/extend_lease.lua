@@ -0,0 +1,8 @@
+-- KEYS[1]: 잠금 키
+-- ARGV[1]: 잠금을 잡을 때 받은 펜싱 토큰, ARGV[2]: 지금부터 잠금을 유지할 시간(ms)
+-- 잠금이 아직 이 토큰의 것일 때만 만료를 미룬다. 이미 다른 노드로 넘어갔다면 0 을 돌려준다.
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2]))
+return 1
@@ -0,0 +1,33 @@
+-- KEYS[1]: DB 에서 읽은 최근 게시글 ID 를 채운 임시 키 (posts:recent:rebuild)
+-- KEYS[2]: 최근 게시글 ID (posts:recent), 다시 만드는 동안 추가된 게시글이 모여 있다.
+-- KEYS[3]: 삭제되지 않은 게시글 수 (posts:recent:count)
+-- KEYS[4]: 다시 만드는 동안 삭제된 게시글 ID (posts:recent:removed)
+-- ARGV[1]: DB 에서 센 게시글 수
+-- ARGV[2]: 최대 보관 개수
+-- DB 를 읽은 뒤에 들어온 추가/삭제를 임시 키에 합쳐서 바꿔 끼우므로, 그 사이의 변경이 덮어써지지 않는다.
+local count = tonumber(ARGV[1])
+
+local added = redis.call('ZRANGE', KEYS[2], 0, -1, 'WITHSCORES')
+for i = 1, #added, 2 do
+    -- DB 에서 이미 읽은 게시글이면 수에 들어 있으므로 새로 들어간 것만 센다.
+    if redis.call('ZADD', KEYS[1], added[i + 1], added[i]) == 1 then
+        count = count + 1
+    end
+end
+
+local removed = redis.call('SMEMBERS', KEYS[4])
+for _, postId in ipairs(removed) do
+    if redis.call('ZREM', KEYS[1], postId) == 1 then
+        count = count - 1
+    end
+end
+
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1))
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('RENAME', KEYS[1], KEYS[2])
+else
+    redis.call('DEL', KEYS[2])
+end
+redis.call('DEL', KEYS[4])
+redis.call('SET', KEYS[3], count)
+return count
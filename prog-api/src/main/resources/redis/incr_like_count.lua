@@ -0,0 +1,8 @@
+-- KEYS[1]: 게시글 좋아요 수 (post:likes_count:{postId})
+-- ARGV[1]: 커밋된 좋아요 변경 수
+-- 캐시가 있을 때만 변경 수를 더한다. 없을 때 만들면 변경 수만 남으므로, 다음 조회가 DB 컬럼에서 채우게 둔다.
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+redis.call('INCRBY', KEYS[1], ARGV[1])
+return 1
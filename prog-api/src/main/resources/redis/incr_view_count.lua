@@ -0,0 +1,12 @@
+-- KEYS[1]: 게시글 조회수 (post:views:{postId})
+-- KEYS[2]: DB 에 아직 반영되지 않은 조회수 (post:views:pending)
+-- KEYS[3]: DB 값으로 채워야 하는 게시글 ID (post:views:unseeded)
+-- ARGV[1]: 게시글 ID
+-- ARGV[2]: 더할 조회수
+-- 조회수 키가 없을 때 더하면 이번 몫만 남으므로, 나중에 DB 값으로 채우도록 ID 를 남긴다.
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    redis.call('SADD', KEYS[3], ARGV[1])
+end
+redis.call('INCRBY', KEYS[1], ARGV[2])
+redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+return 1
@@ -0,0 +1,13 @@
+-- KEYS[1]: 게시글을 좋아요한 사용자 집합 (post:likers:{postId})
+-- ARGV[1]: 집합을 유지할 시간(초), ARGV[2]: 빈 집합 표식 멤버, ARGV[3..]: DB 에서 읽은 사용자 ID
+-- 그사이 다른 요청이 먼저 적재하고 토글까지 했을 수 있으므로, 집합이 없을 때만 채운다.
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+-- 한 번에 넘길 수 있는 인자 수에 걸리지 않도록 나눠서 넣는다.
+local batch = 1000
+for from = 2, #ARGV, batch do
+    redis.call('SADD', KEYS[1], unpack(ARGV, from, math.min(from + batch - 1, #ARGV)))
+end
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,14 @@
+-- KEYS[1]: DB 에 반영 중인 몫의 묶음 번호 (post:views:pending:flushing:batch)
+-- KEYS[2]: 마지막으로 정한 묶음 번호 (post:views:flush_batch:last)
+-- ARGV[1]: 현재 시각(ms)
+-- 반영 중인 묶음이 있으면 그 번호를 그대로 쓴다. 새로 정할 때는 시각을 쓰되 이전 번호보다 항상 크게 해서,
+-- 같은 밀리초에 두 번 떼어 오거나 Redis 가 비워져 마지막 번호를 잃어도 DB 에 남은 번호와 겹치지 않는다.
+local current = redis.call('GET', KEYS[1])
+if current then
+    return tonumber(current)
+end
+local last = tonumber(redis.call('GET', KEYS[2]) or '0')
+local batch = string.format('%d', math.max(tonumber(ARGV[1]), last + 1))
+redis.call('SET', KEYS[2], batch)
+redis.call('SET', KEYS[1], batch)
+return tonumber(batch)
@@ -0,0 +1,14 @@
+-- KEYS[1]: 잠금 키
+-- ARGV[1]: 잠금을 잡을 때 받은 펜싱 토큰, ARGV[2]: 잠금을 더 유지할 시간(ms)
+-- 다른 노드가 이미 새 토큰으로 잠금을 잡았다면 건드리지 않는다.
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+local keepMillis = tonumber(ARGV[2])
+if keepMillis > 0 then
+    redis.call('PEXPIRE', KEYS[1], keepMillis)
+else
+    redis.call('DEL', KEYS[1])
+end
+return 1
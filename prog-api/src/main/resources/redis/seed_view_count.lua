@@ -0,0 +1,12 @@
+-- KEYS[1]: 게시글 조회수 (post:views:{postId})
+-- KEYS[2]: DB 에 아직 반영되지 않은 조회수 (post:views:pending)
+-- KEYS[3]: DB 에 반영 중인 조회수 (post:views:pending:flushing)
+-- KEYS[4]: DB 값으로 채워야 하는 게시글 ID (post:views:unseeded)
+-- ARGV[1]: 게시글 ID
+-- ARGV[2]: DB 의 조회수
+-- 더하지 않고 DB 값과 아직 반영되지 않은 몫의 합으로 덮어쓰므로 여러 번 실행해도 결과가 같다.
+local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+local flushing = tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0')
+redis.call('SET', KEYS[1], string.format('%d', tonumber(ARGV[2]) + pending + flushing))
+redis.call('SREM', KEYS[4], ARGV[1])
+return 1
@@ -0,0 +1,8 @@
+-- KEYS[1]: 게시글 좋아요 수 (post:likes_count:{postId})
+-- ARGV[1]: 동기화 작업이 읽은 캐시 값, ARGV[2]: 좋아요 수 컬럼 값
+-- 읽은 뒤에 커밋된 변경이 더해졌다면 캐시가 달라져 있으므로 덮어쓰지 않고 다음 동기화에 맡긴다.
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2])
+return 1
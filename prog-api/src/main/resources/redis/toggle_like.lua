@@ -0,0 +1,31 @@
+-- KEYS[1]: 게시글을 좋아요한 사용자 집합 (post:likers:{postId})
+-- KEYS[2]: 게시글 좋아요 수 (post:likes_count:{postId})
+-- ARGV[1]: 사용자 ID
+-- ARGV[2]: 'like' 이면 좋아요, 'unlike' 이면 취소, 그 밖에는 현재 상태를 뒤집는다.
+-- ARGV[3]: 사용자 집합을 유지할 시간(초). 누를 때마다 다시 늘려서 한동안 누르지 않은 게시글만 내려간다.
+-- 반환값: {좋아요 여부(1/0), 좋아요 수, 상태가 바뀌었는지(1/0)}, 사용자 집합이 아직 적재되지 않았다면 {-1, 0, 0}
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {-1, 0, 0}
+end
+
+local liked
+if ARGV[2] == 'like' then
+    liked = 1
+elseif ARGV[2] == 'unlike' then
+    liked = 0
+else
+    liked = 1 - redis.call('SISMEMBER', KEYS[1], ARGV[1])
+end
+
+local changed
+if liked == 1 then
+    changed = redis.call('SADD', KEYS[1], ARGV[1])
+else
+    changed = redis.call('SREM', KEYS[1], ARGV[1])
+end
+
+-- 집합이 비어도 키가 사라지지 않도록 넣어둔 표식 멤버 하나를 뺀다.
+local count = redis.call('SCARD', KEYS[1]) - 1
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('SET', KEYS[2], count)
+return {liked, count, changed}
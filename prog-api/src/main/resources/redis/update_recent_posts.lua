@@ -0,0 +1,32 @@
+-- KEYS[1]: 최근 게시글 ID (posts:recent, 점수는 작성 시각 마이크로초)
+-- KEYS[2]: 삭제되지 않은 게시글 수 (posts:recent:count)
+-- KEYS[3]: 인덱스를 다시 만드는 동안 삭제된 게시글 ID (posts:recent:removed)
+-- ARGV[1]: 'add' 이면 추가, 'remove' 이면 삭제
+-- ARGV[2]: 게시글 ID
+-- ARGV[3]: 작성 시각 점수 (add 일 때만)
+-- ARGV[4]: 최대 보관 개수 (add 일 때만)
+-- 반환값: 반영했으면 1, 인덱스를 다시 만드는 중이라 모아 두기만 했다면 0
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    -- 수 키가 없는 동안에는 인덱스를 읽지 않으므로, 다시 만들 때 합치도록 변경만 모아 둔다.
+    if ARGV[1] == 'add' then
+        redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+        redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+    else
+        redis.call('ZREM', KEYS[1], ARGV[2])
+        redis.call('SADD', KEYS[3], ARGV[2])
+        redis.call('EXPIRE', KEYS[3], 3600)
+    end
+    return 0
+end
+
+if ARGV[1] == 'add' then
+    if redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2]) == 1 then
+        redis.call('INCR', KEYS[2])
+    end
+    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+else
+    -- 보관 개수 밖으로 밀려난 오래된 게시글도 수는 줄여야 한다.
+    redis.call('ZREM', KEYS[1], ARGV[2])
+    redis.call('DECR', KEYS[2])
+end
+return 1
@@ -0,0 +1,9 @@
+-- KEYS[1]: 게시글 상세 사본 (post:detail:{postId})
+-- KEYS[2]: 게시글 상세 버전 (post:detail:version:{postId})
+-- ARGV[1]: DB 에서 읽기 전에 확인한 버전, ARGV[2]: 사본(JSON), ARGV[3]: 사본을 유지할 시간(ms)
+-- 읽는 사이에 무효화되었다면 옛 사본이므로 쓰지 않고 0 을 돌려준다.
+if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', tonumber(ARGV[3]))
+return 1
@@ -0,0 +1,175 @@
+package se.sowl.progapi.common.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ScheduledJobRunnerTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @Autowired
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Autowired
+    private RedisLeaseLock redisLeaseLock;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void setUpRedisServer() throws IOException {
+        redisPort = findAvailablePort();
+        redisServer = RedisServer.builder()
+                .port(redisPort)
+                .setting("maxmemory 128M")
+                .build();
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void tearDownRedisServer() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+    }
+
+    @Nested
+    @DisplayName("작업 실행")
+    class Run {
+        @Test
+        @DisplayName("같은 주기 안에서는 작업이 한 번만 실행되어야 한다.")
+        void runOncePerTick() {
+            // given
+            AtomicInteger executions = new AtomicInteger();
+
+            // when
+            boolean first = scheduledJobRunner.run("test-job", Duration.ofMinutes(1), Duration.ofMinutes(1), executions::incrementAndGet);
+            boolean second = scheduledJobRunner.run("test-job", Duration.ofMinutes(1), Duration.ofMinutes(1), executions::incrementAndGet);
+
+            // then
+            assertTrue(first);
+            assertFalse(second);
+            assertEquals(1, executions.get());
+        }
+
+        @Test
+        @DisplayName("최소 유지 시간이 없으면 작업이 끝나는 즉시 잠금이 풀려야 한다.")
+        void releaseImmediately() {
+            // given
+            AtomicInteger executions = new AtomicInteger();
+
+            // when
+            scheduledJobRunner.run("test-job", Duration.ofMinutes(1), Duration.ZERO, executions::incrementAndGet);
+            scheduledJobRunner.run("test-job", Duration.ofMinutes(1), Duration.ZERO, executions::incrementAndGet);
+
+            // then
+            assertEquals(2, executions.get());
+        }
+
+        @Test
+        @DisplayName("작업이 실패하면 예외를 던지고 실패로 기록해야 한다.")
+        void recordFailure() {
+            // given
+            Runnable failingJob = () -> {
+                throw new IllegalStateException("실패");
+            };
+
+            // when & then
+            assertThrows(IllegalStateException.class,
+                    () -> scheduledJobRunner.run("failing-job", Duration.ofMinutes(1), Duration.ZERO, failingJob));
+            assertEquals(0.0, meterRegistry.get("scheduled.job.last.success").tag("job", "failing-job").gauge().value());
+            assertTrue(redisLeaseLock.tryAcquire("failing-job", Duration.ofMinutes(1)).isPresent());
+        }
+
+        @Test
+        @DisplayName("실행 중에 잠금이 다른 노드로 넘어가면 남은 쓰기를 하지 않고 멈춰야 한다.")
+        void stopWhenLeaseLost() {
+            // given
+            AtomicInteger writes = new AtomicInteger();
+
+            // when & then
+            assertThrows(JobLease.LeaseLostException.class,
+                    () -> scheduledJobRunner.runWithLease("slow-job", Duration.ofMinutes(1), Duration.ZERO, lease -> {
+                        for (int batch = 0; batch < 3; batch++) {
+                            lease.renew();
+                            writes.incrementAndGet();
+                            // 잠금 시간이 지나 다른 노드가 잠금을 잡은 상황
+                            redisTemplate.delete("scheduler:lock:slow-job");
+                            redisLeaseLock.tryAcquire("slow-job", Duration.ofMinutes(1)).orElseThrow();
+                        }
+                    }));
+            assertEquals(1, writes.get());
+            assertTrue(redisLeaseLock.tryAcquire("slow-job", Duration.ofMinutes(1)).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("이전 토큰으로는 다른 노드가 잡은 잠금을 풀 수 없어야 한다.")
+    void staleTokenCannotRelease() {
+        // given
+        RedisLeaseLock.Lease stale = redisLeaseLock.tryAcquire("test-job", Duration.ofMinutes(1)).orElseThrow();
+        redisTemplate.delete("scheduler:lock:test-job");
+        RedisLeaseLock.Lease current = redisLeaseLock.tryAcquire("test-job", Duration.ofMinutes(1)).orElseThrow();
+
+        // when
+        boolean released = redisLeaseLock.release(stale, Duration.ZERO);
+
+        // then
+        assertFalse(released);
+        assertTrue(current.token() > stale.token());
+        assertTrue(redisLeaseLock.tryAcquire("test-job", Duration.ofMinutes(1)).isEmpty());
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("spring.data.redis.host", () -> "localhost");
+    }
+
+    @TestConfiguration
+    static class TestRedisConfiguration {
+        @Bean
+        public RedisConnectionFactory redisConnectionFactory() {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", redisPort);
+            return new LettuceConnectionFactory(configuration);
+        }
+    }
+}
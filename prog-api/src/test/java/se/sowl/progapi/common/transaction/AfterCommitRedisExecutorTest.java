@@ -0,0 +1,137 @@
+package se.sowl.progapi.common.transaction;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class AfterCommitRedisExecutorTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @Autowired
+    private AfterCommitRedisExecutor afterCommitRedisExecutor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUpRedisServer() throws IOException {
+        redisPort = findAvailablePort();
+        redisServer = RedisServer.builder()
+                .port(redisPort)
+                .setting("maxmemory 128M")
+                .build();
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void tearDownRedisServer() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+    }
+
+    @Nested
+    @DisplayName("커밋 후 실행")
+    class Execute {
+        @Test
+        @DisplayName("트랜잭션 안에서 요청한 변경은 커밋된 뒤에 반영되어야 한다.")
+        void executeAfterCommit() {
+            // given
+            String key = "test:after-commit";
+
+            // when
+            String valueBeforeCommit = transactionTemplate.execute(status -> {
+                afterCommitRedisExecutor.execute(connection -> connection.set(key, "1"));
+                afterCommitRedisExecutor.execute(connection -> connection.incr(key));
+                return redisTemplate.opsForValue().get(key);
+            });
+
+            // then
+            assertNull(valueBeforeCommit);
+            assertEquals("2", redisTemplate.opsForValue().get(key));
+        }
+
+        @Test
+        @DisplayName("롤백된 트랜잭션에서 요청한 변경은 반영되지 않아야 한다.")
+        void discardOnRollback() {
+            // given
+            String key = "test:rollback";
+            StringBuilder actions = new StringBuilder();
+
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                afterCommitRedisExecutor.execute(connection -> connection.set(key, "1"));
+                afterCommitRedisExecutor.afterCommit(() -> actions.append("run"));
+                status.setRollbackOnly();
+            });
+
+            // then
+            assertNull(redisTemplate.opsForValue().get(key));
+            assertEquals("", actions.toString());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖에서 요청한 변경은 바로 반영되어야 한다.")
+        void executeImmediatelyWithoutTransaction() {
+            // given
+            String key = "test:immediate";
+
+            // when
+            afterCommitRedisExecutor.execute(connection -> connection.set(key, "1"));
+
+            // then
+            assertEquals("1", redisTemplate.opsForValue().get(key));
+        }
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("spring.data.redis.host", () -> "localhost");
+    }
+
+    @TestConfiguration
+    static class TestRedisConfiguration {
+        @Bean
+        public RedisConnectionFactory redisConnectionFactory() {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", redisPort);
+            return new LettuceConnectionFactory(configuration);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import se.sowl.progapi.fixture.UserFixture;
 import se.sowl.progapi.interest.dto.EditUserInterestRequest;
+import se.sowl.progapi.interest.dto.InterestCatalog;
 import se.sowl.progapi.interest.service.InterestService;
 import se.sowl.progapi.interest.service.UserInterestService;
 import se.sowl.progapi.oauth.service.OAuthService;
@@ -74,11 +75,13 @@ public class InterestControllerTest {
 
         SequentialIdSetter.setSequentialIds(interestList);
 
-        when(interestService.getList()).thenReturn(interestList);
+        InterestCatalog catalog = InterestCatalog.of(1, interestList);
+        when(interestService.getCatalog()).thenReturn(catalog);
 
         mockMvc.perform(get("/api/interests/list")
                         .with(csrf()))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", catalog.etag()))
                 .andDo(document("interest-list",
                         responseFields(
                                 fieldWithPath("code").description("응답 코드"),
@@ -89,6 +92,22 @@ public class InterestControllerTest {
                         )));
     }
 
+    @Test
+    @DisplayName("GET /api/interests/list - 관심사 목록이 바뀌지 않았다면 304")
+    @WithMockUser(roles = "USER")
+    public void getInterestListNotModified() throws Exception {
+        List<Interest> interestList = Arrays.asList(new Interest("SF"), new Interest("판타지"));
+        SequentialIdSetter.setSequentialIds(interestList);
+        InterestCatalog catalog = InterestCatalog.of(1, interestList);
+        when(interestService.getCatalog()).thenReturn(catalog);
+
+        mockMvc.perform(get("/api/interests/list")
+                        .header("If-None-Match", catalog.etag())
+                        .with(csrf()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Nested
     @DisplayName("PUT /api/interests/user/edit")
     class EditUserInterests {
@@ -4,12 +4,16 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import se.sowl.progapi.interest.dto.InterestCatalog;
 import se.sowl.progdomain.interest.domain.Interest;
 import se.sowl.progdomain.interest.repository.InterestRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 class InterestServiceTest {
@@ -17,7 +21,7 @@ class InterestServiceTest {
     @Autowired
     private InterestService interestService;
 
-    @Autowired
+    @SpyBean
     private InterestRepository interestRepository;
 
     @AfterEach
@@ -29,6 +33,7 @@ class InterestServiceTest {
     @DisplayName("관심사가 없으면 빈 배열을 응답해야한다.")
     void emptyInterest() {
         // given
+        interestService.refresh();
 
         // when
         List<Interest> list = interestService.getList();
@@ -45,6 +50,7 @@ class InterestServiceTest {
         Interest interest2 = new Interest("판타지");
         Interest interest3 = new Interest("로맨스");
         interestRepository.saveAll(List.of(interest1, interest2, interest3));
+        interestService.refresh();
 
         // when
         List<Interest> list = interestService.getList();
@@ -52,4 +58,56 @@ class InterestServiceTest {
         // then
         assertThat(list.size()).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("관심사 목록이 바뀌지 않았다면 다시 읽어도 버전과 ETag 가 그대로여야 한다.")
+    void refreshKeepsVersionWhenUnchanged() {
+        // given
+        interestRepository.saveAll(List.of(new Interest("SF"), new Interest("판타지")));
+        InterestCatalog catalog = interestService.refresh();
+
+        // when
+        InterestCatalog refreshed = interestService.refresh();
+
+        // then
+        assertThat(refreshed.version()).isEqualTo(catalog.version());
+        assertThat(refreshed.etag()).isEqualTo(catalog.etag());
+    }
+
+    @Test
+    @DisplayName("목록에 없는 관심사 ID 로 조회하면 DB 에서 다시 읽어 새로 추가된 관심사를 찾아야 한다.")
+    void getInterestReloadsOnMiss() {
+        // given
+        InterestCatalog catalog = interestService.refresh();
+        Interest saved = interestRepository.save(new Interest("미스터리"));
+
+        // when
+        Optional<Interest> interest = interestService.getInterest(saved.getId());
+
+        // then
+        assertThat(interest.isPresent()).isTrue();
+        assertThat(interestService.getCatalog().version()).isEqualTo(catalog.version() + 1);
+    }
+
+    @Test
+    @DisplayName("DB 에도 없는 관심사 ID 로 조회하면 전체 목록을 다시 읽지 않고, 같은 ID 는 DB 에서 다시 찾지 않아야 한다.")
+    void getInterestDoesNotReloadForUnknownId() {
+        // given
+        interestRepository.save(new Interest("SF"));
+        interestService.refresh();
+        clearInvocations(interestRepository);
+
+        // when
+        Optional<Interest> first = interestService.getInterest(-1L);
+        Optional<Interest> second = interestService.getInterest(-1L);
+        List<Interest> interests = interestService.getInterests(List.of(-1L, -2L));
+
+        // then
+        assertThat(first.isPresent()).isFalse();
+        assertThat(second.isPresent()).isFalse();
+        assertThat(interests.size()).isEqualTo(0);
+        verify(interestRepository, never()).findAll();
+        verify(interestRepository, times(1)).findAllById(List.of(-1L));
+        verify(interestRepository, times(1)).findAllById(List.of(-2L));
+    }
 }
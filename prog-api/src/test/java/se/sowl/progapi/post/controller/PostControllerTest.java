@@ -13,11 +13,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.ResponseFieldsSnippet;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import se.sowl.progapi.fixture.UserFixture;
 import se.sowl.progapi.oauth.service.OAuthService;
 import se.sowl.progapi.post.dto.PostResponse;
+import se.sowl.progapi.post.dto.PostSliceResponse;
+import se.sowl.progapi.post.service.FeedService;
+import se.sowl.progapi.post.service.LikeService;
 import se.sowl.progapi.post.service.LikedPostService;
 import se.sowl.progapi.post.service.RecentPostService;
 import se.sowl.progapi.post.service.TrendingPostService;
@@ -27,19 +31,25 @@ import se.sowl.progdomain.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+// 목록 응답 캐시가 테스트마다 다른 목 응답을 가리지 않도록 끈다.
+@SpringBootTest(properties = "post.list.cache.ttl-millis=0")
 @AutoConfigureMockMvc
 @AutoConfigureRestDocs(outputDir = "build/generated-snippets")
 class Test {
@@ -59,9 +69,15 @@ class Test {
     @MockBean
     private LikedPostService likedPostService;
 
+    @MockBean
+    private FeedService feedService;
+
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private LikeService likeService;
+
     private List<PostResponse> createPostSummaries() {
         return List.of(
                 PostResponse.builder()
@@ -70,6 +86,7 @@ class Test {
                         .thumbnailUrl("thumbnail1.jpg")
                         .createdAt(LocalDateTime.now().minusHours(1))
                         .likeCount(30L)
+                        .userLiked(true)
                         .build(),
                 PostResponse.builder()
                         .id(2L)
@@ -77,6 +94,7 @@ class Test {
                         .thumbnailUrl("thumbnail2.jpg")
                         .createdAt(LocalDateTime.now().minusHours(2))
                         .likeCount(20L)
+                        .userLiked(false)
                         .build()
         );
     }
@@ -89,13 +107,18 @@ class Test {
         @WithMockUser
         void getTrendingPostsWithPagination() throws Exception {
             // given
+            User fixtureUser = UserFixture.createUser(1L, "안녕", "안녕1", "dasd@naver.com", "naver");
+            CustomOAuth2User customOAuth2User = UserFixture.createCustomOAuth2User(fixtureUser);
+            when(oAuthService.loadUser(any())).thenReturn(customOAuth2User);
+
             List<PostResponse> postSummaries = createPostSummaries();
             Page<PostResponse> page = new PageImpl<>(postSummaries, PageRequest.of(0, 10), 2);
 
-            when(trendingPostService.getTrendingPosts(any())).thenReturn(page);
+            when(trendingPostService.getTrendingPosts(isNull(), isNull(), any(Pageable.class))).thenReturn(page);
 
             // when & then
             mockMvc.perform(get("/api/posts/trending")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
                             .param("page", "0")
                             .param("size", "10")
                             .contentType(MediaType.APPLICATION_JSON))
@@ -115,6 +138,7 @@ class Test {
                                     fieldWithPath("result.content[].thumbnailUrl").description("썸네일 URL"),
                                     fieldWithPath("result.content[].createdAt").description("게시물 생성 시간"),
                                     fieldWithPath("result.content[].likeCount").description("좋아요 수"),
+                                    fieldWithPath("result.content[].userLiked").description("로그인한 사용자의 좋아요 여부"),
                                     fieldWithPath("result.pageable.pageNumber").description("현재 페이지 번호"),
                                     fieldWithPath("result.pageable.pageSize").description("페이지 크기"),
                                     fieldWithPath("result.pageable.sort.empty").description("정렬 정보 존재 여부"),
@@ -137,6 +161,41 @@ class Test {
                             )
                     ));
         }
+
+        @Test
+        @DisplayName("같은 목록 응답이라도 좋아요 여부는 요청한 사용자마다 다르게 채워진다")
+        @WithMockUser
+        void getTrendingPostsFillsUserLikedPerUser() throws Exception {
+            // given
+            CustomOAuth2User firstUser = UserFixture.createCustomOAuth2User(
+                    UserFixture.createUser(1L, "안녕", "안녕1", "dasd@naver.com", "naver"));
+            CustomOAuth2User secondUser = UserFixture.createCustomOAuth2User(
+                    UserFixture.createUser(2L, "반가워", "반가워1", "qwer@naver.com", "naver"));
+            List<PostResponse> postSummaries = List.of(
+                    PostResponse.builder().id(1L).title("Post 1").createdAt(LocalDateTime.now().minusHours(1)).likeCount(30L).build(),
+                    PostResponse.builder().id(2L).title("Post 2").createdAt(LocalDateTime.now().minusHours(2)).likeCount(20L).build()
+            );
+            Page<PostResponse> page = new PageImpl<>(postSummaries, PageRequest.of(0, 10), 2);
+            when(trendingPostService.getTrendingPosts(isNull(), isNull(), any(Pageable.class))).thenReturn(page);
+            when(likeService.findLikedPostIds(eq(1L), any())).thenReturn(Set.of(1L));
+            when(likeService.findLikedPostIds(eq(2L), any())).thenReturn(Set.of(2L));
+
+            // when & then
+            mockMvc.perform(get("/api/posts/trending")
+                            .with(oauth2Login().oauth2User(firstUser))
+                            .param("page", "0")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.content[0].userLiked").value(true))
+                    .andExpect(jsonPath("$.result.content[1].userLiked").value(false));
+            mockMvc.perform(get("/api/posts/trending")
+                            .with(oauth2Login().oauth2User(secondUser))
+                            .param("page", "0")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.content[0].userLiked").value(false))
+                    .andExpect(jsonPath("$.result.content[1].userLiked").value(true));
+        }
     }
 
     @Nested
@@ -147,13 +206,18 @@ class Test {
         @WithMockUser
         void getRecentPostsWithPagination() throws Exception {
             // given
+            User fixtureUser = UserFixture.createUser(1L, "안녕", "안녕1", "dasd@naver.com", "naver");
+            CustomOAuth2User customOAuth2User = UserFixture.createCustomOAuth2User(fixtureUser);
+            when(oAuthService.loadUser(any())).thenReturn(customOAuth2User);
+
             List<PostResponse> postSummaries = createPostSummaries();
             Page<PostResponse> page = new PageImpl<>(postSummaries, PageRequest.of(0, 10), 2);
 
-            when(recentPostService.getRecentPosts(any())).thenReturn(page);
+            when(recentPostService.getRecentPosts(isNull(), isNull(), any(Pageable.class))).thenReturn(page);
 
             // when & then
             mockMvc.perform(get("/api/posts/recent")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
                             .param("page", "0")
                             .param("size", "10")
                             .contentType(MediaType.APPLICATION_JSON))
@@ -173,6 +237,7 @@ class Test {
                                     fieldWithPath("result.content[].thumbnailUrl").description("썸네일 URL"),
                                     fieldWithPath("result.content[].createdAt").description("게시물 생성 시간"),
                                     fieldWithPath("result.content[].likeCount").description("좋아요 수"),
+                                    fieldWithPath("result.content[].userLiked").description("로그인한 사용자의 좋아요 여부"),
                                     fieldWithPath("result.pageable.pageNumber").description("현재 페이지 번호"),
                                     fieldWithPath("result.pageable.pageSize").description("페이지 크기"),
                                     fieldWithPath("result.pageable.sort.empty").description("정렬 정보 존재 여부"),
@@ -195,6 +260,74 @@ class Test {
                             )
                     ));
         }
+
+        @Test
+        @DisplayName("사용자가 관심분야를 지정해 최근 게시물을 조회할 수 있다")
+        @WithMockUser
+        void getRecentPostsByInterest() throws Exception {
+            // given
+            User fixtureUser = UserFixture.createUser(1L, "안녕", "안녕1", "dasd@naver.com", "naver");
+            CustomOAuth2User customOAuth2User = UserFixture.createCustomOAuth2User(fixtureUser);
+            when(oAuthService.loadUser(any())).thenReturn(customOAuth2User);
+
+            List<PostResponse> postSummaries = createPostSummaries();
+            Page<PostResponse> page = new PageImpl<>(postSummaries, PageRequest.of(0, 10), 2);
+            when(recentPostService.getRecentPosts(isNull(), eq(3L), any(Pageable.class))).thenReturn(page);
+
+            // when & then
+            mockMvc.perform(get("/api/posts/recent")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
+                            .param("page", "0")
+                            .param("size", "10")
+                            .param("interestId", "3")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.content.length()").value(2))
+                    .andDo(document("get-recent-posts-by-interest",
+                            queryParameters(
+                                    parameterWithName("page").description("페이지 번호 (0부터 시작)"),
+                                    parameterWithName("size").description("페이지 크기"),
+                                    parameterWithName("interestId").description("관심분야 ID (생략하면 전체 게시물)").optional()
+                            )
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/posts/recent/cursor")
+    class getRecentPostsByCursor {
+        @Test
+        @DisplayName("사용자가 커서로 최근 게시물을 이어서 조회할 수 있다")
+        @WithMockUser
+        void getRecentPostsWithCursor() throws Exception {
+            // given
+            User fixtureUser = UserFixture.createUser(1L, "안녕", "안녕1", "dasd@naver.com", "naver");
+            CustomOAuth2User customOAuth2User = UserFixture.createCustomOAuth2User(fixtureUser);
+            when(oAuthService.loadUser(any())).thenReturn(customOAuth2User);
+
+            PostSliceResponse slice = PostSliceResponse.of(createPostSummaries(), true);
+            when(recentPostService.getRecentPosts(isNull(), isNull(), isNull(), eq(10))).thenReturn(slice);
+
+            // when & then
+            mockMvc.perform(get("/api/posts/recent/cursor")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
+                            .param("size", "10")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.content.length()").value(2))
+                    .andExpect(jsonPath("$.result.nextCursor").value(slice.getNextCursor()))
+                    .andExpect(jsonPath("$.result.hasNext").value(true))
+                    .andDo(document("get-recent-posts-by-cursor",
+                            queryParameters(
+                                    parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                    parameterWithName("size").description("조회할 게시물 수"),
+                                    parameterWithName("interestId").description("관심분야 ID (생략하면 전체 게시물)").optional()
+                            ),
+                            postSliceResponseFields("최근 게시물 목록")
+                    ));
+        }
     }
 
     @Nested
@@ -235,6 +368,7 @@ class Test {
                                     fieldWithPath("result.content[].thumbnailUrl").description("썸네일 URL"),
                                     fieldWithPath("result.content[].createdAt").description("게시물 생성 시간"),
                                     fieldWithPath("result.content[].likeCount").description("좋아요 수"),
+                                    fieldWithPath("result.content[].userLiked").description("로그인한 사용자의 좋아요 여부"),
                                     fieldWithPath("result.pageable.pageNumber").description("현재 페이지 번호"),
                                     fieldWithPath("result.pageable.pageSize").description("페이지 크기"),
                                     fieldWithPath("result.pageable.sort.empty").description("정렬 정보 존재 여부"),
@@ -258,4 +392,89 @@ class Test {
                     ));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("GET /api/posts/liked/cursor")
+    class getLikedPostsByCursor {
+        @Test
+        @DisplayName("인증된 사용자가 좋아요한 게시물을 커서로 이어서 조회할 수 있다")
+        @WithMockUser
+        void getLikedPostsWithCursor() throws Exception {
+            // given
+            User fixtureUser = UserFixture.createUser(1L, "안녕", "안녕1", "dasd@naver.com", "naver");
+            CustomOAuth2User customOAuth2User = UserFixture.createCustomOAuth2User(fixtureUser);
+            when(oAuthService.loadUser(any())).thenReturn(customOAuth2User);
+
+            PostSliceResponse slice = PostSliceResponse.of(createPostSummaries(), true);
+            when(likedPostService.getLikedPosts(eq(1L), isNull(), eq(10))).thenReturn(slice);
+
+            // when & then
+            mockMvc.perform(get("/api/posts/liked/cursor")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
+                            .param("size", "10")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.content.length()").value(2))
+                    .andExpect(jsonPath("$.result.hasNext").value(true))
+                    .andDo(document("get-liked-posts-by-cursor",
+                            queryParameters(
+                                    parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                    parameterWithName("size").description("조회할 게시물 수")
+                            ),
+                            postSliceResponseFields("좋아요한 게시물 목록")
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/posts/feed")
+    class getFeed {
+        @Test
+        @DisplayName("인증된 사용자가 관심분야 피드를 커서로 조회할 수 있다")
+        @WithMockUser
+        void getFeedWithCursor() throws Exception {
+            // given
+            User fixtureUser = UserFixture.createUser(1L, "안녕", "안녕1", "dasd@naver.com", "naver");
+            CustomOAuth2User customOAuth2User = UserFixture.createCustomOAuth2User(fixtureUser);
+            when(oAuthService.loadUser(any())).thenReturn(customOAuth2User);
+
+            PostSliceResponse slice = PostSliceResponse.of(createPostSummaries(), false);
+            when(feedService.getFeed(eq(1L), isNull(), eq(10))).thenReturn(slice);
+
+            // when & then
+            mockMvc.perform(get("/api/posts/feed")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
+                            .param("size", "10")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.content.length()").value(2))
+                    .andExpect(jsonPath("$.result.hasNext").value(false))
+                    .andDo(document("get-feed",
+                            queryParameters(
+                                    parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                    parameterWithName("size").description("조회할 게시물 수")
+                            ),
+                            postSliceResponseFields("관심분야 피드 게시물 목록")
+                    ));
+        }
+    }
+
+    private ResponseFieldsSnippet postSliceResponseFields(String contentDescription) {
+        return responseFields(
+                fieldWithPath("code").description("응답 코드"),
+                fieldWithPath("message").description("응답 메시지"),
+                fieldWithPath("result.content").description(contentDescription),
+                fieldWithPath("result.content[].id").description("게시물 ID"),
+                fieldWithPath("result.content[].writerId").description("작성자 ID"),
+                fieldWithPath("result.content[].title").description("게시물 제목"),
+                fieldWithPath("result.content[].thumbnailUrl").description("썸네일 URL"),
+                fieldWithPath("result.content[].createdAt").description("게시물 생성 시간"),
+                fieldWithPath("result.content[].likeCount").description("좋아요 수"),
+                fieldWithPath("result.content[].userLiked").description("로그인한 사용자의 좋아요 여부"),
+                fieldWithPath("result.nextCursor").description("다음 조회에 넘길 커서 (마지막이면 null)").optional(),
+                fieldWithPath("result.hasNext").description("다음 게시물이 더 있는지 여부")
+        );
+    }
+}
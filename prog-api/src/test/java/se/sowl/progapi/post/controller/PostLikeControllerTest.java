@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import se.sowl.progapi.fixture.UserFixture;
 import se.sowl.progapi.oauth.service.OAuthService;
 import se.sowl.progapi.post.dto.LikeRequest;
+import se.sowl.progapi.post.dto.LikeResponse;
 import se.sowl.progapi.post.service.LikeService;
 import se.sowl.progdomain.oauth.domain.CustomOAuth2User;
 import se.sowl.progdomain.user.domain.User;
@@ -29,6 +30,8 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -62,19 +65,95 @@ class PostLikeControllerTest {
 
     @Nested
     @DisplayName("PUT /api/posts/like")
+    class Like {
+
+        @Test
+        @DisplayName("좋아요 성공")
+        @WithMockUser(roles = "USER")
+        void likeSuccess() throws Exception {
+            when(likeService.like(eq(TEST_POST_ID), eq(testUser.getId())))
+                    .thenReturn(LikeResponse.createResponse(TEST_POST_ID, true, 1L));
+
+            LikeRequest request = new LikeRequest(TEST_POST_ID);
+            String content = objectMapper.writeValueAsString(request);
+
+            mockMvc.perform(put("/api/posts/like")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.postId").value(TEST_POST_ID))
+                    .andExpect(jsonPath("$.result.liked").value(true))
+                    .andExpect(jsonPath("$.result.likeCount").value(1))
+                    .andDo(document("posts-like",
+                            requestFields(
+                                    fieldWithPath("postId").description("좋아요할 게시물 ID")
+                            ),
+                            responseFields(
+                                    fieldWithPath("code").description("응답 코드"),
+                                    fieldWithPath("message").description("응답 메시지"),
+                                    fieldWithPath("result.postId").description("게시물 ID"),
+                                    fieldWithPath("result.liked").description("좋아요 상태"),
+                                    fieldWithPath("result.likeCount").description("총 좋아요 수")
+                            )));
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/posts/like")
+    class Unlike {
+
+        @Test
+        @DisplayName("좋아요 취소 성공")
+        @WithMockUser(roles = "USER")
+        void unlikeSuccess() throws Exception {
+            when(likeService.unlike(eq(TEST_POST_ID), eq(testUser.getId())))
+                    .thenReturn(LikeResponse.createResponse(TEST_POST_ID, false, 0L));
+
+            LikeRequest request = new LikeRequest(TEST_POST_ID);
+            String content = objectMapper.writeValueAsString(request);
+
+            mockMvc.perform(delete("/api/posts/like")
+                            .with(oauth2Login().oauth2User(customOAuth2User))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.postId").value(TEST_POST_ID))
+                    .andExpect(jsonPath("$.result.liked").value(false))
+                    .andExpect(jsonPath("$.result.likeCount").value(0))
+                    .andDo(document("posts-unlike",
+                            requestFields(
+                                    fieldWithPath("postId").description("좋아요를 취소할 게시물 ID")
+                            ),
+                            responseFields(
+                                    fieldWithPath("code").description("응답 코드"),
+                                    fieldWithPath("message").description("응답 메시지"),
+                                    fieldWithPath("result.postId").description("게시물 ID"),
+                                    fieldWithPath("result.liked").description("좋아요 상태"),
+                                    fieldWithPath("result.likeCount").description("총 좋아요 수")
+                            )));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/posts/like/toggle")
     class ToggleLike {
 
         @Test
         @DisplayName("좋아요 토글 성공")
         @WithMockUser(roles = "USER")
         void toggleLikeSuccess() throws Exception {
-            when(likeService.toggleLike(eq(TEST_POST_ID), eq(testUser.getId()))).thenReturn(true);
-            when(likeService.getLikeCount(eq(TEST_POST_ID))).thenReturn(1L);
+            when(likeService.toggle(eq(TEST_POST_ID), eq(testUser.getId())))
+                    .thenReturn(LikeResponse.createResponse(TEST_POST_ID, true, 1L));
 
             LikeRequest request = new LikeRequest(TEST_POST_ID);
             String content = objectMapper.writeValueAsString(request);
 
-            mockMvc.perform(put("/api/posts/like")
+            mockMvc.perform(post("/api/posts/like/toggle")
                             .with(oauth2Login().oauth2User(customOAuth2User))
                             .with(csrf())
                             .contentType(MediaType.APPLICATION_JSON)
@@ -101,13 +180,13 @@ class PostLikeControllerTest {
         @DisplayName("존재하지 않는 게시물에 대한 좋아요 토글 실패")
         @WithMockUser(roles = "USER")
         void toggleLikeNonExistentPost() throws Exception {
-            when(likeService.toggleLike(eq(TEST_POST_ID), eq(testUser.getId())))
+            when(likeService.toggle(eq(TEST_POST_ID), eq(testUser.getId())))
                     .thenThrow(new EntityNotFoundException("존재하지 않는 게시물입니다."));
 
             LikeRequest request = new LikeRequest(TEST_POST_ID);
             String content = objectMapper.writeValueAsString(request);
 
-            mockMvc.perform(put("/api/posts/like")
+            mockMvc.perform(post("/api/posts/like/toggle")
                             .with(oauth2Login().oauth2User(customOAuth2User))
                             .with(csrf())
                             .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,243 @@
+package se.sowl.progapi.post.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+import se.sowl.progapi.fixture.UserFixture;
+import se.sowl.progapi.post.dto.PostResponse;
+import se.sowl.progapi.post.dto.PostSliceResponse;
+import se.sowl.progdomain.interest.domain.Interest;
+import se.sowl.progdomain.interest.domain.UserInterest;
+import se.sowl.progdomain.interest.repository.InterestRepository;
+import se.sowl.progdomain.interest.repository.UserInterestRepository;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.repository.PostRepository;
+import se.sowl.progdomain.user.domain.User;
+import se.sowl.progdomain.user.repository.UserRepository;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class FeedServiceTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private InterestRepository interestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserInterestRepository userInterestRepository;
+
+    private User user;
+    private Interest followed;
+    private Interest alsoFollowed;
+    private Interest notFollowed;
+
+    @BeforeAll
+    static void setUpRedisServer() throws IOException {
+        redisPort = findAvailablePort();
+        redisServer = RedisServer.builder()
+                .port(redisPort)
+                .setting("maxmemory 128M")
+                .build();
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void tearDownRedisServer() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+        user = userRepository.save(UserFixture.createUser(null, "Test User", "TestNick", "test@example.com", "testProvider"));
+        followed = interestRepository.save(new Interest("SF"));
+        alsoFollowed = interestRepository.save(new Interest("판타지"));
+        notFollowed = interestRepository.save(new Interest("로맨스"));
+        userInterestRepository.saveAll(List.of(new UserInterest(user, followed), new UserInterest(user, alsoFollowed)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userInterestRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        interestRepository.deleteAll();
+    }
+
+    private List<Post> createPosts(Interest interest, int count) {
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            posts.add(Post.builder()
+                    .title(interest.getName() + " " + i)
+                    .userId(user.getId())
+                    .interest(interest)
+                    .build());
+        }
+        return postRepository.saveAll(posts);
+    }
+
+    @Test
+    @DisplayName("구독한 관심사의 게시글만 최신순으로 합쳐서 보여준다")
+    void getFeedMergesFollowedInterests() {
+        // given
+        createPosts(followed, 3);
+        createPosts(alsoFollowed, 3);
+        createPosts(notFollowed, 3);
+
+        // when
+        PostSliceResponse feed = feedService.getFeed(user.getId(), null, 10);
+
+        // then
+        assertThat(feed.getContent()).hasSize(6);
+        assertThat(feed.isHasNext()).isFalse();
+        assertThat(feed.getContent()).allMatch(post -> !post.getTitle().startsWith("로맨스"));
+        assertThat(feed.getContent())
+                .isSortedAccordingTo(Comparator.comparing(PostResponse::getCreatedAt).reversed());
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어서 읽으면 빠지거나 겹치는 게시글이 없다")
+    void getFeedWithCursor() {
+        // given
+        createPosts(followed, 7);
+        createPosts(alsoFollowed, 7);
+
+        // when
+        List<PostResponse> collected = new ArrayList<>();
+        String cursor = null;
+        do {
+            PostSliceResponse page = feedService.getFeed(user.getId(), cursor, 4);
+            collected.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(collected).hasSize(14);
+        assertThat(collected).extracting(PostResponse::getId).doesNotHaveDuplicates();
+        assertThat(collected)
+                .isSortedAccordingTo(Comparator.comparing(PostResponse::getCreatedAt).reversed());
+    }
+
+    @Test
+    @DisplayName("새 게시글이 등록되면 피드 맨 앞에 보인다")
+    void addPostAppearsOnTop() {
+        // given
+        createPosts(followed, 3);
+        feedService.getFeed(user.getId(), null, 10);
+        Post newPost = createPosts(alsoFollowed, 1).get(0);
+
+        // when
+        feedService.addPost(newPost);
+        PostSliceResponse feed = feedService.getFeed(user.getId(), null, 10);
+
+        // then
+        assertThat(feed.getContent()).hasSize(4);
+        assertThat(feed.getContent().get(0).getId()).isEqualTo(newPost.getId());
+    }
+
+    @Test
+    @DisplayName("한 페이지의 게시글이 모두 삭제되었어도 다음 커서로 이어서 읽을 수 있다")
+    void getFeedContinuesPastDeletedPosts() {
+        // given
+        List<Post> posts = createPosts(followed, 4);
+        feedService.getFeed(user.getId(), null, 10);
+        List<Long> newestIds = feedService.getFeed(user.getId(), null, 2).getContent().stream()
+                .map(PostResponse::getId)
+                .toList();
+        List<Post> deleted = posts.stream().filter(post -> newestIds.contains(post.getId())).toList();
+        deleted.forEach(Post::softDelete);
+        postRepository.saveAll(deleted);
+
+        // when
+        PostSliceResponse first = feedService.getFeed(user.getId(), null, 2);
+        PostSliceResponse second = feedService.getFeed(user.getId(), first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getContent()).isEmpty();
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getContent()).extracting(PostResponse::getId)
+                .doesNotContainAnyElementsOf(newestIds)
+                .hasSize(2);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제한 게시글은 관심사 피드에서 빠진다")
+    void removePostsFromFeed() {
+        // given
+        List<Post> posts = createPosts(followed, 3);
+        feedService.getFeed(user.getId(), null, 10);
+        Post deleted = posts.get(0);
+        deleted.softDelete();
+        postRepository.save(deleted);
+
+        // when
+        feedService.removePosts(List.of(deleted));
+        PostSliceResponse feed = feedService.getFeed(user.getId(), null, 10);
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score(FeedService.FEED_INTEREST_PRESET + followed.getId(), deleted.getId().toString()))
+                .isNull();
+        assertThat(feed.getContent()).extracting(PostResponse::getId)
+                .hasSize(2)
+                .doesNotContain(deleted.getId());
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("spring.data.redis.host", () -> "localhost");
+    }
+
+    @TestConfiguration
+    static class TestRedisConfiguration {
+        @Bean
+        public RedisConnectionFactory redisConnectionFactory() {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", redisPort);
+            return new LettuceConnectionFactory(configuration);
+        }
+    }
+}
@@ -8,8 +8,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import se.sowl.progapi.fixture.PostFixture;
 import se.sowl.progapi.fixture.UserFixture;
+import se.sowl.progapi.post.dto.EditPostRequest;
 import se.sowl.progapi.post.dto.PostDetailResponse;
 import se.sowl.progapi.post.exception.PostException;
+import se.sowl.progapi.user.dto.EditUserRequest;
+import se.sowl.progapi.user.service.UserService;
 import se.sowl.progdomain.interest.domain.Interest;
 import se.sowl.progdomain.interest.repository.InterestRepository;
 import se.sowl.progdomain.post.domain.Post;
@@ -37,6 +40,9 @@ public class GetPostDetailServiceTest {
     @Autowired
     private LikeService likeService;
 
+    @Autowired
+    private UserService userService;
+
     private User testUser;
     private Interest testInterest;
     private Post testPost;
@@ -85,4 +91,35 @@ public class GetPostDetailServiceTest {
                 () -> postService.getPostDetail(testUser.getId(), nonExistentPostId));
         assertEquals("존재하지 않는 게시글입니다.", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("게시글을 수정하면 캐시된 상세 정보 대신 수정된 내용을 조회한다")
+    void getPostDetailAfterEdit() {
+        // given
+        postService.getPostDetail(testUser.getId(), testPost.getId());
+        EditPostRequest request = new EditPostRequest(testPost.getId(), "Edited Title", "Edited Content", testInterest.getId(), "edited.jpg");
+        postService.editPost(testUser.getId(), request);
+
+        // when
+        PostDetailResponse response = postService.getPostDetail(testUser.getId(), testPost.getId());
+
+        // then
+        assertEquals("Edited Title", response.getTitle());
+        assertEquals("Edited Content", response.getContent());
+        assertEquals("edited.jpg", response.getThumbnailUrl());
+    }
+
+    @Test
+    @DisplayName("작성자가 닉네임을 바꾸면 캐시된 상세 정보에도 바뀐 닉네임이 보인다")
+    void getPostDetailAfterWriterNicknameChange() {
+        // given
+        postService.getPostDetail(testUser.getId(), testPost.getId());
+        userService.editUser(testUser.getId(), new EditUserRequest("NewNick"));
+
+        // when
+        PostDetailResponse response = postService.getPostDetail(testUser.getId(), testPost.getId());
+
+        // then
+        assertEquals("NewNick", response.getWriterNickname());
+    }
+}
@@ -4,23 +4,27 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
 import redis.embedded.RedisServer;
+import se.sowl.progapi.fixture.PostFixture;
+import se.sowl.progapi.post.dto.LikeResponse;
 import se.sowl.progapi.post.exception.PostException;
+import se.sowl.progdomain.interest.domain.Interest;
+import se.sowl.progdomain.interest.repository.InterestRepository;
 import se.sowl.progdomain.post.repository.LikeRepository;
+import se.sowl.progdomain.post.repository.PostRepository;
 
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.*;
 
 @SpringBootTest
 class LikeServiceTest {
@@ -34,8 +38,14 @@ class LikeServiceTest {
     @Autowired
     private LikeService likeService;
 
-    @MockBean
-    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private InterestRepository interestRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @BeforeAll
     static void setUpRedisServer() throws IOException {
@@ -60,12 +70,18 @@ class LikeServiceTest {
                 .getConnection()
                 .serverCommands()
                 .flushAll();
-        when(postService.existsPost(anyLong())).thenReturn(true);
     }
 
     @AfterEach
     void tearDown() {
         likeRepository.deleteAll();
+        postRepository.deleteAll();
+        interestRepository.deleteAll();
+    }
+
+    private Long savePost() {
+        Interest interest = interestRepository.save(PostFixture.createInterest(null, "Test Interest"));
+        return postRepository.save(PostFixture.createPost(null, "Test Title", 1L, interest, "test.jpg", "Test Content")).getId();
     }
 
     @Nested
@@ -75,9 +91,8 @@ class LikeServiceTest {
         @DisplayName("좋아요를 누르지 않은 게시물이라면 좋아요를 누르면 true를 반환하고 좋아요 수가 증가한다.")
         void toggleLikeForFirstTime() {
             // given
-            Long postId = 1L;
+            Long postId = savePost();
             Long userId = 1L;
-            when(postService.existsPost(postId)).thenReturn(true);
 
             // when
             boolean result = likeService.toggleLike(postId, userId);
@@ -92,9 +107,8 @@ class LikeServiceTest {
         @DisplayName("이미 좋아요를 누른 게시물에 좋아요를 다시 누르면 false를 반환하고 좋아요 수가 감소한다.")
         void toggleLikeForSecondTime() {
             // given
-            Long postId = 2L;
+            Long postId = savePost();
             Long userId = 2L;
-            when(postService.existsPost(postId)).thenReturn(true);
             likeService.toggleLike(postId, userId);
 
             // when
@@ -112,13 +126,64 @@ class LikeServiceTest {
             // given
             Long postId = 999L;
             Long userId = 5L;
-            when(postService.existsPost(postId)).thenReturn(false);
 
             // when & then
             assertThrows(PostException.PostNotExistException.class, () -> likeService.toggleLike(postId, userId));
         }
     }
 
+    @Nested
+    @DisplayName("좋아요/좋아요 취소")
+    class LikeAndUnlike {
+        @Test
+        @DisplayName("같은 사용자가 좋아요를 여러 번 눌러도 좋아요는 하나만 반영되어야 한다.")
+        void likeIsIdempotent() {
+            // given
+            Long postId = savePost();
+            Long userId = 1L;
+
+            // when
+            likeService.like(postId, userId);
+            LikeResponse response = likeService.like(postId, userId);
+
+            // then
+            assertTrue(response.isLiked());
+            assertEquals(1L, response.getLikeCount());
+            assertEquals(1L, likeRepository.countByPostId(postId));
+            assertEquals(1L, postRepository.findLikeCountById(postId).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("좋아요하지 않은 게시글에 좋아요 취소를 해도 좋아요 수가 줄어들지 않아야 한다.")
+        void unlikeIsIdempotent() {
+            // given
+            Long postId = savePost();
+            likeService.like(postId, 1L);
+            likeService.like(postId, 2L);
+            likeService.unlike(postId, 1L);
+
+            // when
+            LikeResponse response = likeService.unlike(postId, 1L);
+
+            // then
+            assertFalse(response.isLiked());
+            assertEquals(1L, response.getLikeCount());
+            assertEquals(1L, likeRepository.countByPostId(postId));
+            assertEquals(1L, postRepository.findLikeCountById(postId).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 게시글에 좋아요를 누르면 예외가 발생하고 좋아요가 남지 않아야 한다.")
+        void likeNonExistentPost() {
+            // given
+            Long postId = 999L;
+
+            // when & then
+            assertThrows(PostException.PostNotExistException.class, () -> likeService.like(postId, 1L));
+            assertEquals(0L, likeRepository.countByPostId(postId));
+        }
+    }
+
     @Nested
     @DisplayName("좋아요 조회")
     class GetLikeCount {
@@ -126,10 +191,9 @@ class LikeServiceTest {
         @DisplayName("좋아요 수가 정확히 반영되어야 한다.")
         void getLikeCountWithExistPostId() {
             // given
-            Long postId = 3L;
+            Long postId = savePost();
             Long userId1 = 3L;
             Long userId2 = 4L;
-            when(postService.existsPost(postId)).thenReturn(true);
             likeService.toggleLike(postId, userId1);
             likeService.toggleLike(postId, userId2);
 
@@ -145,7 +209,6 @@ class LikeServiceTest {
         void getLikeCountWithNotExistPostId() {
             // given
             Long postId = 999L;
-            when(postService.existsPost(postId)).thenReturn(false);
 
             // when
             long likeCount = likeService.getLikeCount(postId);
@@ -153,15 +216,109 @@ class LikeServiceTest {
             // then
             assertEquals(0L, likeCount);
         }
+
+        @Test
+        @DisplayName("캐시가 비어 있으면 게시글의 좋아요 수 컬럼에서 읽어 와야 한다.")
+        void getLikeCountFromPostColumn() {
+            // given
+            Long postId = savePost();
+            likeService.toggleLike(postId, 1L);
+            likeService.toggleLike(postId, 2L);
+            likeService.getRedisTemplate().delete(LikeService.POST_LIKE_COUNT_PRESET + postId);
+
+            // when
+            long likeCount = likeService.getLikeCount(postId);
+
+            // then
+            assertEquals(2L, likeCount);
+            assertEquals(2L, postRepository.findLikeCountById(postId).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("좋아요가 바뀌면 캐시된 좋아요 수에 변경 수만 더해서, 먼저 반영된 다른 변경을 덮어쓰지 않아야 한다.")
+        void likeAddsDeltaToCachedCount() {
+            // given
+            Long postId = savePost();
+            // 다른 요청의 변경이 캐시에 먼저 반영된 상황
+            likeService.getRedisTemplate().opsForValue().set(LikeService.POST_LIKE_COUNT_PRESET + postId, "5");
+
+            // when
+            likeService.like(postId, 1L);
+            likeService.like(postId, 1L);
+            likeService.like(postId, 2L);
+            likeService.unlike(postId, 1L);
+
+            // then
+            assertEquals("6", likeService.getRedisTemplate().opsForValue().get(LikeService.POST_LIKE_COUNT_PRESET + postId));
+        }
+
+        @Test
+        @DisplayName("캐시가 없을 때 좋아요가 바뀌면 변경 수만으로 캐시를 만들지 않고 컬럼에서 채워야 한다.")
+        void likeDoesNotCreateCacheFromDelta() {
+            // given
+            Long postId = savePost();
+            likeService.like(postId, 1L);
+            likeService.getRedisTemplate().delete(LikeService.POST_LIKE_COUNT_PRESET + postId);
+
+            // when
+            likeService.like(postId, 2L);
+
+            // then
+            assertFalse(likeService.getRedisTemplate().hasKey(LikeService.POST_LIKE_COUNT_PRESET + postId));
+            assertEquals(2L, likeService.getLikeCount(postId));
+            assertEquals("2", likeService.getRedisTemplate().opsForValue().get(LikeService.POST_LIKE_COUNT_PRESET + postId));
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 수 동기화")
+    class SyncLikeCountCache {
+        @Test
+        @DisplayName("캐시된 좋아요 수가 실제와 다르면 실제 좋아요 수로 바로잡아야 한다.")
+        void syncCorrectsOnlyDriftedCounts() {
+            // given
+            Long driftedPostId = savePost();
+            Long accuratePostId = savePost();
+            likeService.toggleLike(driftedPostId, 1L);
+            likeService.toggleLike(accuratePostId, 1L);
+            likeService.toggleLike(accuratePostId, 2L);
+            likeService.getRedisTemplate().opsForValue().set(LikeService.POST_LIKE_COUNT_PRESET + driftedPostId, "42");
+            likeService.getRedisTemplate().opsForValue().set(LikeService.POST_LIKE_COUNT_PRESET + 999L, "7");
+
+            // when
+            likeService.syncLikeCountCache();
+
+            // then
+            assertEquals(1L, likeService.getLikeCount(driftedPostId));
+            assertEquals(2L, likeService.getLikeCount(accuratePostId));
+            assertEquals(0L, likeService.getLikeCount(999L));
+        }
+
+        @Test
+        @DisplayName("게시글의 좋아요 수 컬럼이 실제 좋아요 수와 다르면 컬럼과 캐시를 모두 바로잡아야 한다.")
+        void syncCorrectsDriftedColumn() {
+            // given
+            Long postId = savePost();
+            likeService.like(postId, 1L);
+            likeService.like(postId, 2L);
+            transactionTemplate.executeWithoutResult(status -> postRepository.incrementLikeCount(postId, 5));
+            likeService.getRedisTemplate().opsForValue().set(LikeService.POST_LIKE_COUNT_PRESET + postId, "7");
+
+            // when
+            likeService.syncLikeCountCache();
+
+            // then
+            assertEquals(2L, postRepository.findLikeCountById(postId).orElseThrow());
+            assertEquals(2L, likeService.getLikeCount(postId));
+        }
     }
 
     @Test
     @DisplayName("사용자의 좋아요 상태 확인")
     void checkUserLikeStatus() {
         // given
-        Long postId = 4L;
+        Long postId = savePost();
         Long userId = 5L;
-        when(postService.existsPost(postId)).thenReturn(true);
 
         // when
         likeService.toggleLike(postId, userId);
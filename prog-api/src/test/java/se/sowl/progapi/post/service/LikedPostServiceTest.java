@@ -5,12 +5,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import se.sowl.progapi.post.dto.PostResponse;
+import se.sowl.progapi.post.dto.PostSliceResponse;
 import se.sowl.progdomain.interest.domain.Interest;
 import se.sowl.progdomain.interest.repository.InterestRepository;
 import se.sowl.progdomain.post.domain.Like;
@@ -19,11 +19,10 @@ import se.sowl.progdomain.post.repository.LikeRepository;
 import se.sowl.progdomain.post.repository.PostRepository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @Transactional
@@ -41,9 +40,6 @@ class LikedPostServiceTest {
     @Autowired
     private InterestRepository interestRepository;
 
-    @MockBean
-    private LikeService likeService;
-
     private Long userId;
     private List<Interest> interests;
 
@@ -54,7 +50,6 @@ class LikedPostServiceTest {
         interestRepository.deleteAll();
         userId = 1L;
         interests = createInterests(10);
-        when(likeService.getLikeCount(anyLong())).thenReturn(0L);
     }
 
     private List<Interest> createInterests(int count) {
@@ -65,7 +60,7 @@ class LikedPostServiceTest {
         return interestRepository.saveAll(interestList);
     }
 
-    private void createTestPostsAndLikes(int count) {
+    private List<Post> createTestPostsAndLikes(int count) {
         List<Post> posts = new ArrayList<>();
         List<Like> likes = new ArrayList<>();
         for (int i = 0; i < count; i++) {
@@ -85,6 +80,7 @@ class LikedPostServiceTest {
             likes.add(like);
         }
         likeRepository.saveAll(likes);
+        return posts;
     }
 
     @Test
@@ -92,21 +88,63 @@ class LikedPostServiceTest {
     void getLikedPosts() {
         // given
         createTestPostsAndLikes(50);
-        when(likeService.getLikeCount(anyLong())).thenReturn(10L);
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
         Page<PostResponse> result = likedPostService.getLikedPosts(userId, pageRequest);
 
         // then
-//        assertThat(result.getContent()).hasSize(10);
-//        assertThat(result.getTotalElements()).isEqualTo(50);
-//        assertThat(result.getTotalPages()).isEqualTo(5);
-//
-//        assertThat(result.getContent()).allMatch(post ->
-//                post.getThumbnailUrl().startsWith("http://example.com/thumbnail") &&
-//                        post.getLikeCount() == 10L
-//        );
+        assertThat(result.getContent()).hasSize(10);
+        assertThat(result.getTotalElements()).isEqualTo(50);
+        assertThat(result.getTotalPages()).isEqualTo(5);
+
+        assertThat(result.getContent()).allMatch(post ->
+                post.getThumbnailUrl().startsWith("http://example.com/thumbnail")
+        );
+    }
+
+    @Test
+    @DisplayName("두 번째 페이지부터도 좋아요를 누른 순서대로 조회할 수 있다")
+    void getLikedPostsSecondPage() {
+        // given
+        List<Post> posts = createTestPostsAndLikes(25);
+        PageRequest pageRequest = PageRequest.of(1, 10);
+
+        // when
+        Page<PostResponse> result = likedPostService.getLikedPosts(userId, pageRequest);
+
+        // then
+        List<Long> expectedIds = posts.subList(5, 15).stream()
+                .map(Post::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        assertThat(result.getContent()).extracting(PostResponse::getId).containsExactlyElementsOf(expectedIds);
+        assertThat(result.getTotalElements()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("커서로 좋아요한 게시물을 중복이나 누락 없이 끝까지 조회할 수 있다")
+    void getLikedPostsByCursor() {
+        // given
+        List<Post> posts = createTestPostsAndLikes(25);
+
+        // when
+        List<PostResponse> fetched = new ArrayList<>();
+        String cursor = null;
+        PostSliceResponse slice;
+        do {
+            slice = likedPostService.getLikedPosts(userId, cursor, 10);
+            fetched.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+
+        // then
+        List<Long> expectedIds = posts.stream()
+                .map(Post::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        assertThat(fetched).extracting(PostResponse::getId).containsExactlyElementsOf(expectedIds);
+        assertThat(slice.getNextCursor()).isNull();
     }
 
     @Test
@@ -133,7 +171,6 @@ class LikedPostServiceTest {
         posts.subList(0, 5).forEach(Post::softDelete);
         postRepository.saveAll(posts);
 
-        when(likeService.getLikeCount(anyLong())).thenReturn(5L);
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
@@ -150,7 +187,6 @@ class LikedPostServiceTest {
     void getLikedPostsWithLessThanPageSize() {
         // given
         createTestPostsAndLikes(5);
-        when(likeService.getLikeCount(anyLong())).thenReturn(1L);
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
@@ -160,5 +196,6 @@ class LikedPostServiceTest {
         assertThat(result.getContent()).hasSize(5);
         assertThat(result.getTotalElements()).isEqualTo(5);
         assertThat(result.getTotalPages()).isEqualTo(1);
+        assertThat(result.getContent()).allMatch(PostResponse::getUserLiked);
     }
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+package se.sowl.progapi.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+import se.sowl.progapi.post.dto.PostDetailSnapshot;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "post.detail.cache.local-ttl-seconds=1",
+        "post.detail.cache.redis-ttl-seconds=3",
+        "post.detail.cache.refresh-ahead-seconds=2"
+})
+class PostDetailCacheTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void setUpRedisServer() throws IOException {
+        redisPort = findAvailablePort();
+        redisServer = RedisServer.builder()
+                .port(redisPort)
+                .setting("maxmemory 128M")
+                .build();
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void tearDownRedisServer() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+    }
+
+    @Test
+    @DisplayName("같은 게시글을 동시에 조회해도 DB 조회는 한 번만 일어나야 한다.")
+    void loadOnceForConcurrentMisses() throws Exception {
+        // given
+        Long postId = 1L;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        List<Future<PostDetailSnapshot>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return postDetailCache.get(postId, id -> {
+                    loads.incrementAndGet();
+                    sleep(200);
+                    return snapshot(id, "Title");
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<PostDetailSnapshot> result : results) {
+            assertEquals("Title", result.get(5, TimeUnit.SECONDS).getTitle());
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Redis 사본이 만료되기 전에 한 요청만 다시 읽어 덮어써야 한다.")
+    void refreshRedisCopyBeforeExpiry() throws Exception {
+        // given
+        Long postId = 2L;
+        String key = PostDetailCache.POST_DETAIL_PRESET + postId;
+        AtomicInteger loads = new AtomicInteger();
+        postDetailCache.get(postId, id -> snapshot(id, "Title " + loads.incrementAndGet()));
+        // 로컬 캐시는 만료되고 Redis 사본은 갱신 구간(만료 2초 전)에 들어올 때까지 기다린다.
+        sleep(1500);
+        long remainingBeforeRefresh = Objects.requireNonNull(redisTemplate.getExpire(key, TimeUnit.MILLISECONDS));
+
+        // when
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<PostDetailSnapshot>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return postDetailCache.get(postId, id -> snapshot(id, "Title " + loads.incrementAndGet()));
+            }));
+        }
+        start.countDown();
+        for (Future<PostDetailSnapshot> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        long remainingAfterRefresh = Objects.requireNonNull(redisTemplate.getExpire(key, TimeUnit.MILLISECONDS));
+        // 처음 저장한 사본이 만료되었을 시각까지 기다린다.
+        sleep(remainingBeforeRefresh + 200);
+
+        // then
+        assertEquals(2, loads.get());
+        assertTrue(remainingAfterRefresh > remainingBeforeRefresh);
+        assertTrue(redisTemplate.hasKey(key));
+        PostDetailCache.CachedPostDetail stored =
+                objectMapper.readValue(redisTemplate.opsForValue().get(key), PostDetailCache.CachedPostDetail.class);
+        assertEquals("Title 2", stored.snapshot().getTitle());
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 읽어 와야 한다.")
+    void reloadAfterEvict() {
+        // given
+        Long postId = 3L;
+        postDetailCache.get(postId, id -> snapshot(id, "Old Title"));
+
+        // when
+        postDetailCache.evict(postId);
+        PostDetailSnapshot reloaded = postDetailCache.get(postId, id -> snapshot(id, "New Title"));
+
+        // then
+        assertEquals("New Title", reloaded.getTitle());
+    }
+
+    @Test
+    @DisplayName("읽어 오는 도중에 무효화되면 읽어 온 옛 값을 캐시에 남기지 않아야 한다.")
+    void skipStaleWriteAfterEvict() throws Exception {
+        // given
+        Long postId = 4L;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<PostDetailSnapshot> staleLoad = executor.submit(() -> postDetailCache.get(postId, id -> {
+            loading.countDown();
+            try {
+                evicted.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return snapshot(id, "Old Title");
+        }));
+
+        // when
+        loading.await();
+        postDetailCache.evict(postId);
+        evicted.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        PostDetailSnapshot reloaded = postDetailCache.get(postId, id -> snapshot(id, "New Title"));
+
+        // then
+        assertEquals("New Title", reloaded.getTitle());
+        PostDetailCache.CachedPostDetail stored = objectMapper.readValue(
+                redisTemplate.opsForValue().get(PostDetailCache.POST_DETAIL_PRESET + postId), PostDetailCache.CachedPostDetail.class);
+        assertEquals("New Title", stored.snapshot().getTitle());
+    }
+
+    private static PostDetailSnapshot snapshot(Long postId, String title) {
+        return PostDetailSnapshot.builder()
+                .id(postId)
+                .title(title)
+                .content("Content")
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("spring.data.redis.host", () -> "localhost");
+    }
+
+    @TestConfiguration
+    static class TestRedisConfiguration {
+        @Bean
+        public RedisConnectionFactory redisConnectionFactory() {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", redisPort);
+            return new LettuceConnectionFactory(configuration);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package se.sowl.progapi.post.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import se.sowl.progapi.post.dto.PostResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostListResponseCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PostListResponseCache cache = new PostListResponseCache(objectMapper, 100, 60000, 60000);
+
+    private List<PostResponse> createPosts() {
+        return List.of(
+                PostResponse.builder()
+                        .id(1L)
+                        .title("\"userLiked\":null")
+                        .createdAt(LocalDateTime.now())
+                        .likeCount(3L)
+                        .build(),
+                PostResponse.builder()
+                        .id(2L)
+                        .title("Post 2")
+                        .createdAt(LocalDateTime.now())
+                        .likeCount(1L)
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("캐시한 응답에 사용자마다 좋아요 여부만 채워 쓴다")
+    void writeFillsUserLiked() throws IOException {
+        // given
+        PostListResponseCache.CachedPostList cached = cache.get(
+                new PostListResponseCache.Key("recent", 0, 10, null), this::createPosts, Function.identity());
+
+        // when
+        ByteArrayOutputStream firstUser = new ByteArrayOutputStream();
+        cached.writeTo(firstUser, Set.of(1L));
+        ByteArrayOutputStream secondUser = new ByteArrayOutputStream();
+        cached.writeTo(secondUser, Set.of(2L));
+
+        // then
+        JsonNode first = objectMapper.readTree(firstUser.toByteArray());
+        JsonNode second = objectMapper.readTree(secondUser.toByteArray());
+        assertThat(first.get("code").asText()).isEqualTo("SUCCESS");
+        assertThat(first.at("/result/0/title").asText()).isEqualTo("\"userLiked\":null");
+        assertThat(first.at("/result/0/userLiked").asBoolean()).isTrue();
+        assertThat(first.at("/result/1/userLiked").asBoolean()).isFalse();
+        assertThat(second.at("/result/0/userLiked").asBoolean()).isFalse();
+        assertThat(second.at("/result/1/userLiked").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("자리 표시를 게시글 수만큼 찾지 못하면 요청마다 직렬화해서 좋아요 여부를 채운다")
+    void writeFallsBackWhenPlaceholderMissing() throws IOException {
+        // given
+        ObjectMapper indentingMapper = Jackson2ObjectMapperBuilder.json().indentOutput(true).build();
+        PostListResponseCache indentingCache = new PostListResponseCache(indentingMapper, 100, 60000, 60000);
+        PostListResponseCache.CachedPostList cached = indentingCache.get(
+                new PostListResponseCache.Key("recent", 0, 10, null), this::createPosts, Function.identity());
+
+        // when
+        ByteArrayOutputStream firstUser = new ByteArrayOutputStream();
+        cached.writeTo(firstUser, Set.of(1L));
+        ByteArrayOutputStream secondUser = new ByteArrayOutputStream();
+        cached.writeTo(secondUser, Set.of());
+
+        // then
+        JsonNode first = objectMapper.readTree(firstUser.toByteArray());
+        JsonNode second = objectMapper.readTree(secondUser.toByteArray());
+        assertThat(first.get("code").asText()).isEqualTo("SUCCESS");
+        assertThat(first.at("/result/0/userLiked").isBoolean()).isTrue();
+        assertThat(first.at("/result/0/userLiked").asBoolean()).isTrue();
+        assertThat(first.at("/result/1/userLiked").asBoolean()).isFalse();
+        assertThat(second.at("/result/0/userLiked").isBoolean()).isTrue();
+        assertThat(second.at("/result/0/userLiked").asBoolean()).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 전에는 같은 키의 응답을 한 번만 만든다")
+    void loadOncePerKey() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        PostListResponseCache.Key key = new PostListResponseCache.Key("trending", 0, 10, null);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            cache.get(key, () -> {
+                loads.incrementAndGet();
+                return createPosts();
+            }, Function.identity());
+        }
+        cache.get(new PostListResponseCache.Key("trending", 0, 10, 1L), this::createPosts, Function.identity());
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+}
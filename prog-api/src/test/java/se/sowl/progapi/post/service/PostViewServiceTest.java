@@ -8,15 +8,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import redis.embedded.RedisServer;
+import se.sowl.progapi.fixture.PostFixture;
+import se.sowl.progdomain.interest.domain.Interest;
+import se.sowl.progdomain.interest.repository.InterestRepository;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.repository.PostRepository;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 class PostViewServiceTest {
@@ -27,6 +38,21 @@ class PostViewServiceTest {
     @Autowired
     private PostViewService postViewService;
 
+    @Autowired
+    private PostViewCountBuffer postViewCountBuffer;
+
+    @Autowired
+    private UniqueViewerCounter uniqueViewerCounter;
+
+    @Autowired
+    private PostViewCountPersister postViewCountPersister;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private InterestRepository interestRepository;
+
     @BeforeAll
     static void setUpRedisServer() throws IOException {
         redisPort = findAvailablePort();
@@ -64,6 +90,67 @@ class PostViewServiceTest {
         assertEquals(2L, viewCount);
     }
 
+    @Test
+    @DisplayName("버퍼에 쌓인 조회수는 한 번에 Redis 로 반영되어야 한다.")
+    void flushBufferedViewCount() {
+        Long postId = 2L;
+
+        for (int i = 0; i < 100; i++) {
+            postViewService.incrementViewCount(postId);
+        }
+        postViewCountBuffer.flush();
+
+        String flushedCount = postViewService.getRedisTemplate().opsForValue().get("post:views:" + postId);
+        assertEquals("100", flushedCount);
+        assertEquals(0L, postViewCountBuffer.getPendingCount(postId));
+        assertEquals(100L, postViewService.getViewCount(postId));
+    }
+
+    @Test
+    @DisplayName("반영하는 도중에 들어온 조회수도 빠짐없이 Redis 로 반영되어야 한다.")
+    void flushWhileIncrementing() throws InterruptedException {
+        Long postId = 5L;
+        int threads = 4;
+        int viewsPerThread = 2500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    postViewService.incrementViewCount(postId);
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            postViewCountBuffer.flush();
+        }
+        executor.shutdown();
+        postViewCountBuffer.flush();
+
+        String flushedCount = postViewService.getRedisTemplate().opsForValue().get("post:views:" + postId);
+        assertEquals(String.valueOf(threads * viewsPerThread), flushedCount);
+        assertEquals(0L, postViewCountBuffer.getPendingCount(postId));
+    }
+
+    @Test
+    @DisplayName("Redis 에서 스크립트가 지워져도 다시 올려서 조회수를 반영해야 한다.")
+    void flushAfterScriptFlush() {
+        Long postId = 7L;
+        postViewService.getRedisTemplate().execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        postViewService.incrementViewCount(postId);
+        postViewService.incrementViewCount(postId);
+        postViewCountBuffer.flush();
+
+        assertEquals("2", postViewService.getRedisTemplate().opsForValue().get("post:views:" + postId));
+        assertEquals(0L, postViewCountBuffer.getPendingCount(postId));
+    }
+
     @Test
     @DisplayName("저장되지 않은 글 ID로 조회한다면 조회수가 0 이여야만 한다.")
     void getViewCountWithNotExistPostId() {
@@ -73,6 +160,180 @@ class PostViewServiceTest {
         assertEquals(0L, viewCount);
     }
 
+    @Test
+    @DisplayName("같은 사용자의 반복 조회는 중복 확인 구간 안에서 한 번만 인정되어야 한다.")
+    void recordViewerOncePerWindow() {
+        Long postId = 3L;
+
+        boolean first = uniqueViewerCounter.recordViewer(postId, 1L);
+        boolean second = uniqueViewerCounter.recordViewer(postId, 1L);
+        boolean otherUser = uniqueViewerCounter.recordViewer(postId, 2L);
+
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(otherUser);
+    }
+
+    @Test
+    @DisplayName("모아 둔 사용자별 조회는 비울 때 한 번에 확인해서 처음 본 조회만 조회수에 더해야 한다.")
+    void flushCountsFirstViewsOnly() {
+        Long postId = 6L;
+
+        postViewCountBuffer.incrementViewer(postId, 1L);
+        postViewCountBuffer.incrementViewer(postId, 1L);
+        postViewCountBuffer.incrementViewer(postId, 2L);
+        postViewCountBuffer.flush();
+        postViewCountBuffer.incrementViewer(postId, 2L);
+        postViewCountBuffer.flush();
+
+        assertEquals(2L, postViewService.getViewCount(postId));
+    }
+
+    @Test
+    @DisplayName("방문자가 많고 사용자 ID 가 커도 중복 확인 키는 게시글의 구간마다 하나이고 12KB 를 넘지 않아야 한다.")
+    void recordViewerKeepsBoundedKey() {
+        Long postId = 4L;
+
+        int firstViews = 0;
+        for (long userId = 1; userId <= 5000; userId++) {
+            if (uniqueViewerCounter.recordViewer(postId, userId * 1_000_000L)) {
+                firstViews++;
+            }
+        }
+
+        Set<String> seenKeys = postViewService.getRedisTemplate().keys("post:viewers:seen:" + postId + ":*");
+        assertNotNull(seenKeys);
+        assertTrue(seenKeys.size() <= 2);
+        for (String seenKey : seenKeys) {
+            assertTrue(postViewService.getRedisTemplate().opsForValue().size(seenKey) <= 12 * 1024);
+            assertTrue(postViewService.getRedisTemplate().getExpire(seenKey) > 0);
+        }
+        // 해시가 겹친 몇 퍼센트를 빼고는 처음 본 사용자로 인정되어야 한다.
+        assertTrue(firstViews > 4800);
+    }
+
+    @Nested
+    @DisplayName("조회수 DB 반영")
+    class PersistViewCount {
+        private Post post;
+
+        @BeforeEach
+        void setUp() {
+            Interest interest = interestRepository.save(PostFixture.createInterest(null, "Test Interest"));
+            post = postRepository.save(PostFixture.createPost(null, "Test Title", 1L, interest, "test.jpg", "Test Content"));
+        }
+
+        @AfterEach
+        void tearDown() {
+            postRepository.deleteAll();
+            interestRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Redis 에 쌓인 조회수는 게시글의 조회수 컬럼에 더해져야 한다.")
+        void persistPendingViews() {
+            for (int i = 0; i < 5; i++) {
+                postViewService.incrementViewCount(post.getId());
+            }
+            postViewCountBuffer.flush();
+
+            postViewCountPersister.persistPendingViews();
+            postViewService.incrementViewCount(post.getId());
+            postViewCountBuffer.flush();
+            postViewCountPersister.persistPendingViews();
+
+            assertEquals(6L, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+            assertFalse(postViewService.getRedisTemplate().hasKey(PostViewCountPersister.PENDING_VIEWS_KEY));
+        }
+
+        @Test
+        @DisplayName("DB 에 반영한 뒤 Redis 에서 지우기 전에 멈춰서 같은 몫을 다시 반영해도 한 번만 더해져야 한다.")
+        void persistSameBatchOnce() {
+            for (int i = 0; i < 5; i++) {
+                postViewService.incrementViewCount(post.getId());
+            }
+            postViewCountBuffer.flush();
+            postViewService.getRedisTemplate().rename(PostViewCountPersister.PENDING_VIEWS_KEY, PostViewCountPersister.FLUSHING_VIEWS_KEY);
+            Map<Object, Object> flushing = postViewService.getRedisTemplate().opsForHash().entries(PostViewCountPersister.FLUSHING_VIEWS_KEY);
+            postViewService.getRedisTemplate().opsForValue().set(PostViewCountPersister.FLUSHING_BATCH_KEY, "1");
+
+            postViewCountPersister.persistPendingViews();
+            // 반영한 몫을 지우기 전에 멈춘 상황
+            postViewService.getRedisTemplate().opsForHash().putAll(PostViewCountPersister.FLUSHING_VIEWS_KEY, flushing);
+            postViewService.getRedisTemplate().opsForValue().set(PostViewCountPersister.FLUSHING_BATCH_KEY, "1");
+            postViewCountPersister.persistPendingViews();
+            postViewService.incrementViewCount(post.getId());
+            postViewCountBuffer.flush();
+            postViewCountPersister.persistPendingViews();
+
+            assertEquals(6L, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+        }
+
+        @Test
+        @DisplayName("Redis 가 비워지면 DB 의 조회수로 다시 채워야 한다.")
+        void reseedAfterRedisLoss() {
+            for (int i = 0; i < 7; i++) {
+                postViewService.incrementViewCount(post.getId());
+            }
+            postViewCountBuffer.flush();
+            postViewCountPersister.persistPendingViews();
+            Objects.requireNonNull(postViewService.getRedisTemplate().getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+
+            postViewCountPersister.reseedIfNeeded();
+            postViewCountPersister.reseedIfNeeded();
+
+            assertEquals(7L, postViewService.getViewCount(post.getId()));
+        }
+
+        @Test
+        @DisplayName("다시 채우다 실패해서 처음부터 다시 채워도 조회수가 두 번 더해지지 않아야 한다.")
+        void reseedRetryDoesNotDoubleCount() {
+            for (int i = 0; i < 7; i++) {
+                postViewService.incrementViewCount(post.getId());
+            }
+            postViewCountBuffer.flush();
+            postViewCountPersister.persistPendingViews();
+            Objects.requireNonNull(postViewService.getRedisTemplate().getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+            postViewService.incrementViewCount(post.getId());
+            postViewCountBuffer.flush();
+
+            // 일부 키를 채운 뒤 실패해서 표식이 남지 않은 상황
+            postViewCountPersister.reseedIfNeeded();
+            postViewService.getRedisTemplate().delete(PostViewCountPersister.SEEDED_KEY);
+            postViewCountPersister.reseedIfNeeded();
+
+            assertEquals(8L, postViewService.getViewCount(post.getId()));
+        }
+
+        @Test
+        @DisplayName("표식이 남아 있어도 사라진 조회수 키는 DB 의 조회수로 다시 채워야 한다.")
+        void seedMissingKeyWhileMarkerRemains() {
+            for (int i = 0; i < 7; i++) {
+                postViewService.incrementViewCount(post.getId());
+            }
+            postViewCountBuffer.flush();
+            postViewCountPersister.reseedIfNeeded();
+            postViewCountPersister.persistPendingViews();
+            postViewService.getRedisTemplate().delete(PostViewService.POST_VIEW_PRESET + post.getId());
+
+            postViewService.incrementViewCount(post.getId());
+            postViewService.incrementViewCount(post.getId());
+            postViewCountBuffer.flush();
+            postViewCountPersister.seedMissingKeys();
+            postViewCountPersister.seedMissingKeys();
+            postViewCountPersister.persistPendingViews();
+
+            assertEquals(9L, postViewService.getViewCount(post.getId()));
+            assertEquals(9L, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+        }
+    }
+
     private static int findAvailablePort() throws IOException {
         try (ServerSocket serverSocket = new ServerSocket(0)) {
             return serverSocket.getLocalPort();
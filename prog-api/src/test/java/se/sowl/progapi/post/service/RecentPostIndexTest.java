@@ -0,0 +1,253 @@
+package se.sowl.progapi.post.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+import se.sowl.progapi.post.dto.PostResponse;
+import se.sowl.progapi.post.dto.PostSliceResponse;
+import se.sowl.progdomain.interest.domain.Interest;
+import se.sowl.progdomain.interest.repository.InterestRepository;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.repository.PostRepository;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "post.recent.index.max-size=5")
+class RecentPostIndexTest {
+    private static final Long USER_ID = 1L;
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @Autowired
+    private RecentPostIndex recentPostIndex;
+
+    @Autowired
+    private RecentPostService recentPostService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private InterestRepository interestRepository;
+
+    private Interest interest;
+
+    @BeforeAll
+    static void setUpRedisServer() throws IOException {
+        redisPort = findAvailablePort();
+        redisServer = RedisServer.builder()
+                .port(redisPort)
+                .setting("maxmemory 128M")
+                .build();
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void tearDownRedisServer() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+        interest = interestRepository.save(new Interest("SF"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        interestRepository.deleteAll();
+    }
+
+    // 작성 시각이 겹치지 않도록 한 건씩 저장한다.
+    private List<Post> createPosts(int count) {
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            posts.add(postRepository.save(Post.builder()
+                    .title("Test Post " + i)
+                    .userId(USER_ID)
+                    .interest(interest)
+                    .build()));
+        }
+        return posts;
+    }
+
+    private List<Long> newestIds(List<Post> posts, int limit) {
+        return posts.stream()
+                .sorted(Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed())
+                .limit(limit)
+                .map(Post::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("다시 만든 인덱스에서 최신 게시글 ID 와 전체 게시글 수를 읽는다")
+    void findPageAfterRebuild() {
+        // given
+        List<Post> posts = createPosts(8);
+        recentPostIndex.rebuild();
+
+        // when
+        Page<Long> page = recentPostIndex.findPage(PageRequest.of(0, 3));
+
+        // then
+        assertThat(page).isNotNull();
+        assertThat(page.getContent()).containsExactlyElementsOf(newestIds(posts, 3));
+        assertThat(page.getTotalElements()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("인덱스가 담지 못한 깊은 페이지는 DB 에서 읽는다")
+    void deepPageFallsBackToDatabase() {
+        // given
+        List<Post> posts = createPosts(8);
+        recentPostIndex.rebuild();
+
+        // when
+        Page<Long> indexed = recentPostIndex.findPage(PageRequest.of(1, 3));
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, PageRequest.of(1, 3));
+
+        // then
+        assertThat(indexed).isNull();
+        assertThat(result.getContent()).extracting(PostResponse::getId)
+                .containsExactlyElementsOf(newestIds(posts, 6).subList(3, 6));
+        assertThat(result.getTotalElements()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("새 게시글과 삭제한 게시글이 인덱스와 게시글 수에 반영된다")
+    void addAndRemove() {
+        // given
+        List<Post> posts = createPosts(3);
+        recentPostIndex.rebuild();
+        Post added = createPosts(1).get(0);
+
+        // when
+        recentPostIndex.add(added);
+        recentPostIndex.remove(List.of(posts.get(2).getId()));
+
+        // then
+        Page<Long> page = recentPostIndex.findPage(PageRequest.of(0, 5));
+        assertThat(page).isNotNull();
+        assertThat(page.getContent()).containsExactly(added.getId(), posts.get(1).getId(), posts.get(0).getId());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Redis 가 비워지면 그동안의 요청은 DB 에서 읽고 인덱스는 뒤에서 다시 만든다")
+    void rebuildAfterFlush() throws InterruptedException {
+        // given
+        List<Post> posts = createPosts(4);
+
+        // when
+        Page<Long> first = recentPostIndex.findPage(PageRequest.of(0, 3));
+        Page<Long> rebuilt = null;
+        for (int i = 0; i < 50 && rebuilt == null; i++) {
+            Thread.sleep(100);
+            rebuilt = recentPostIndex.findPage(PageRequest.of(0, 3));
+        }
+
+        // then
+        assertThat(first).isNull();
+        assertThat(rebuilt).isNotNull();
+        assertThat(rebuilt.getContent()).containsExactlyElementsOf(newestIds(posts, 3));
+        assertThat(rebuilt.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다시 만드는 동안 들어온 추가와 삭제는 새 인덱스에 합쳐진다")
+    void keepChangesDuringRebuild() {
+        // given
+        List<Post> posts = createPosts(3);
+        // DB 를 읽은 뒤에 커밋된 게시글처럼, DB 에는 없고 인덱스에만 추가가 들어온 상황
+        Post lateCommitted = Post.builder()
+                .title("Late Post")
+                .userId(USER_ID)
+                .interest(interest)
+                .createdAt(LocalDateTime.now().plusMinutes(1))
+                .build();
+        ReflectionTestUtils.setField(lateCommitted, "id", Long.MAX_VALUE);
+
+        // when
+        recentPostIndex.add(lateCommitted);
+        recentPostIndex.remove(List.of(posts.get(0).getId()));
+        recentPostIndex.rebuild();
+
+        // then
+        Page<Long> page = recentPostIndex.findPage(PageRequest.of(0, 5));
+        assertThat(page).isNotNull();
+        assertThat(page.getContent()).containsExactly(lateCommitted.getId(), posts.get(2).getId(), posts.get(1).getId());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("첫 커서 페이지를 인덱스에서 읽어도 다음 커서부터 빠짐없이 이어진다")
+    void cursorContinuesFromIndexedFirstPage() {
+        // given
+        List<Post> posts = createPosts(8);
+        recentPostIndex.rebuild();
+
+        // when
+        List<PostResponse> fetched = new ArrayList<>();
+        String cursor = null;
+        PostSliceResponse slice;
+        do {
+            slice = recentPostService.getRecentPosts(USER_ID, cursor, 3);
+            fetched.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+
+        // then
+        assertThat(fetched).extracting(PostResponse::getId).containsExactlyElementsOf(newestIds(posts, 8));
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("spring.data.redis.host", () -> "localhost");
+    }
+
+    @TestConfiguration
+    static class TestRedisConfiguration {
+        @Bean
+        public RedisConnectionFactory redisConnectionFactory() {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", redisPort);
+            return new LettuceConnectionFactory(configuration);
+        }
+    }
+}
@@ -1,31 +1,38 @@
 package se.sowl.progapi.post.service;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 import se.sowl.progapi.post.dto.PostResponse;
+import se.sowl.progapi.post.dto.PostSliceResponse;
+import se.sowl.progapi.post.exception.PostException;
 import se.sowl.progdomain.interest.domain.Interest;
 import se.sowl.progdomain.interest.repository.InterestRepository;
+import se.sowl.progdomain.post.domain.Like;
 import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.repository.LikeRepository;
 import se.sowl.progdomain.post.repository.PostRepository;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@SpringBootTest
+// 게시글을 저장소로 바로 넣으므로 Redis 인덱스를 끄고 DB 경로만 확인한다. 인덱스는 RecentPostIndexTest 에서 본다.
+@SpringBootTest(properties = "post.recent.index.enabled=false")
 @Transactional
 class RecentPostServiceTest {
+    private static final Long USER_ID = 1L;
 
     @Autowired
     private RecentPostService recentPostService;
@@ -36,8 +43,11 @@ class RecentPostServiceTest {
     @Autowired
     private InterestRepository interestRepository;
 
-    @MockBean
-    private LikeService likeService;
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
 
     private List<Interest> interests;
 
@@ -46,7 +56,6 @@ class RecentPostServiceTest {
         postRepository.deleteAll();
         interestRepository.deleteAll();
         interests = createInterests(10);
-        when(likeService.getLikeCount(anyLong())).thenReturn(0L);
     }
 
     private List<Interest> createInterests(int count) {
@@ -57,7 +66,11 @@ class RecentPostServiceTest {
         return interestRepository.saveAll(interestList);
     }
 
-    private void createTestPosts(int count) {
+    private List<Post> createTestPosts(int count) {
+        return createTestPosts(count, 0L);
+    }
+
+    private List<Post> createTestPosts(int count, long likeCount) {
         List<Post> posts = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             Interest interest = interests.get(i % interests.size());
@@ -67,21 +80,21 @@ class RecentPostServiceTest {
                     .interest(interest)
                     .thumbnailUrl("http://example.com/thumbnail" + i + ".jpg")
                     .build();
+            ReflectionTestUtils.setField(post, "likeCount", likeCount);
             posts.add(post);
         }
-        postRepository.saveAll(posts);
+        return postRepository.saveAll(posts);
     }
 
     @Test
     @DisplayName("최근 게시물을 페이지별로 조회할 수 있다")
     void getRecentPosts() {
         // given
-        createTestPosts(50);
-        when(likeService.getLikeCount(anyLong())).thenReturn(10L);
+        createTestPosts(50, 10L);
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
-        Page<PostResponse> result = recentPostService.getRecentPosts(pageRequest);
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, pageRequest);
 
         // then
         assertThat(result.getContent()).hasSize(10);
@@ -104,7 +117,7 @@ class RecentPostServiceTest {
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
-        Page<PostResponse> result = recentPostService.getRecentPosts(pageRequest);
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, pageRequest);
 
         // then
         assertThat(result.getContent()).isEmpty();
@@ -112,16 +125,34 @@ class RecentPostServiceTest {
         assertThat(result.getTotalPages()).isZero();
     }
 
+    @Test
+    @DisplayName("목록 조회는 게시글 엔티티를 영속성 컨텍스트에 올리지 않는다")
+    void getRecentPostsWithoutManagedEntities() {
+        // given
+        createTestPosts(10);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, PageRequest.of(0, 10));
+        PostSliceResponse slice = recentPostService.getRecentPosts(USER_ID, interests.get(0).getId(), null, 10);
+
+        // then
+        assertThat(result.getContent()).hasSize(10);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityKeys())
+                .noneMatch(key -> key.getEntityName().equals(Post.class.getName()));
+    }
+
     @Test
     @DisplayName("게시물에 좋아요가 없는 경우 좋아요 수를 0으로 반환한다")
     void getRecentPostsWithZeroLikes() {
         // given
         createTestPosts(10);
-        when(likeService.getLikeCount(anyLong())).thenReturn(0L);
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
-        Page<PostResponse> result = recentPostService.getRecentPosts(pageRequest);
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, pageRequest);
 
         // then
         assertThat(result.getContent()).hasSize(10);
@@ -132,15 +163,106 @@ class RecentPostServiceTest {
     @DisplayName("게시물에 좋아요가 있는 경우 좋아요 수를 반환한다")
     void getRecentPostsWithLikes() {
         // given
-        createTestPosts(10);
-        when(likeService.getLikeCount(anyLong())).thenReturn(10L);
+        createTestPosts(10, 10L);
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
-        Page<PostResponse> result = recentPostService.getRecentPosts(pageRequest);
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, pageRequest);
 
         // then
         assertThat(result.getContent()).hasSize(10);
         assertThat(result.getContent()).allMatch(post -> post.getLikeCount() == 10L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("사용자가 좋아요한 게시물에는 좋아요 여부가 표시된다")
+    void getRecentPostsWithUserLiked() {
+        // given
+        List<Post> posts = createTestPosts(5);
+        likeRepository.save(new Like(posts.get(0).getId(), USER_ID));
+        likeRepository.save(new Like(posts.get(1).getId(), 2L));
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // when
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, pageRequest);
+
+        // then
+        assertThat(result.getContent())
+                .filteredOn(PostResponse::getUserLiked)
+                .extracting(PostResponse::getId)
+                .containsExactly(posts.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("커서로 최근 게시물을 중복이나 누락 없이 끝까지 조회할 수 있다")
+    void getRecentPostsByCursor() {
+        // given
+        createTestPosts(25);
+
+        // when
+        List<PostResponse> fetched = new ArrayList<>();
+        String cursor = null;
+        PostSliceResponse slice;
+        do {
+            slice = recentPostService.getRecentPosts(USER_ID, cursor, 10);
+            fetched.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+
+        // then
+        assertThat(fetched).hasSize(25);
+        assertThat(fetched).extracting(PostResponse::getId).doesNotHaveDuplicates();
+        assertThat(fetched)
+                .isSortedAccordingTo((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()));
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("관심사를 지정하면 그 관심사의 게시물만 커서로 끝까지 조회할 수 있다")
+    void getRecentPostsByInterestAndCursor() {
+        // given
+        createTestPosts(40);
+        Interest interest = interests.get(0);
+
+        // when
+        List<PostResponse> fetched = new ArrayList<>();
+        String cursor = null;
+        PostSliceResponse slice;
+        do {
+            slice = recentPostService.getRecentPosts(USER_ID, interest.getId(), cursor, 3);
+            fetched.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (slice.isHasNext());
+
+        // then
+        List<Long> expectedIds = postRepository.findAll().stream()
+                .filter(post -> post.getInterest().getId().equals(interest.getId()))
+                .map(Post::getId)
+                .toList();
+        assertThat(fetched).extracting(PostResponse::getId).containsExactlyInAnyOrderElementsOf(expectedIds);
+        assertThat(fetched)
+                .isSortedAccordingTo((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()));
+    }
+
+    @Test
+    @DisplayName("관심사를 지정하면 그 관심사의 게시물 수만 전체 개수로 센다")
+    void getRecentPostsByInterest() {
+        // given
+        createTestPosts(40);
+        Interest interest = interests.get(0);
+
+        // when
+        Page<PostResponse> result = recentPostService.getRecentPosts(USER_ID, interest.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.getContent()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+    void getRecentPostsWithInvalidCursor() {
+        assertThatThrownBy(() -> recentPostService.getRecentPosts(USER_ID, "invalid-cursor", 10))
+                .isInstanceOf(PostException.InvalidCursorException.class);
+    }
+}
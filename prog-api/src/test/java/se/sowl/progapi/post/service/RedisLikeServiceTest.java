@@ -0,0 +1,199 @@
+package se.sowl.progapi.post.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+import se.sowl.progapi.fixture.PostFixture;
+import se.sowl.progapi.post.dto.LikeResponse;
+import se.sowl.progapi.post.exception.PostException;
+import se.sowl.progdomain.interest.domain.Interest;
+import se.sowl.progdomain.interest.repository.InterestRepository;
+import se.sowl.progdomain.post.domain.Like;
+import se.sowl.progdomain.post.domain.Post;
+import se.sowl.progdomain.post.repository.LikeRepository;
+import se.sowl.progdomain.post.repository.PostRepository;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "post.like.mode=redis")
+class RedisLikeServiceTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeWriteBehindQueue likeWriteBehindQueue;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private InterestRepository interestRepository;
+
+    private Post testPost;
+
+    @BeforeAll
+    static void setUpRedisServer() throws IOException {
+        redisPort = findAvailablePort();
+        redisServer = RedisServer.builder()
+                .port(redisPort)
+                .setting("maxmemory 128M")
+                .build();
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void tearDownRedisServer() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(redisTemplate.getConnectionFactory())
+                .getConnection()
+                .serverCommands()
+                .flushAll();
+        Interest interest = interestRepository.save(PostFixture.createInterest(null, "Test Interest"));
+        testPost = postRepository.save(PostFixture.createPost(null, "Test Title", 1L, interest, "test.jpg", "Test Content"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.deleteAll();
+        postRepository.deleteAll();
+        interestRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("토글 결과와 좋아요 수를 한 번에 반환한다.")
+    void toggleReturnsLikedAndCount() {
+        // when
+        LikeResponse first = likeService.toggle(testPost.getId(), 1L);
+        LikeResponse second = likeService.toggle(testPost.getId(), 2L);
+        LikeResponse third = likeService.toggle(testPost.getId(), 1L);
+
+        // then
+        assertTrue(first.isLiked());
+        assertEquals(1L, first.getLikeCount());
+        assertTrue(second.isLiked());
+        assertEquals(2L, second.getLikeCount());
+        assertFalse(third.isLiked());
+        assertEquals(1L, third.getLikeCount());
+    }
+
+    @Test
+    @DisplayName("DB 에 이미 있는 좋아요를 불러온 뒤 토글한다.")
+    void toggleLoadsExistingLikes() {
+        // given
+        likeRepository.save(new Like(testPost.getId(), 1L));
+
+        // when
+        LikeResponse response = likeService.toggle(testPost.getId(), 1L);
+
+        // then
+        assertFalse(response.isLiked());
+        assertEquals(0L, response.getLikeCount());
+    }
+
+    @Test
+    @DisplayName("모아둔 좋아요는 마지막 상태만 DB 에 반영된다.")
+    void flushPersistsLatestState() {
+        // given
+        likeService.toggle(testPost.getId(), 1L);
+        likeService.toggle(testPost.getId(), 2L);
+        likeService.toggle(testPost.getId(), 2L);
+        likeService.toggle(testPost.getId(), 2L);
+
+        // when
+        likeWriteBehindQueue.flush();
+
+        // then
+        assertTrue(likeRepository.existsByPostIdAndUserId(testPost.getId(), 1L));
+        assertTrue(likeRepository.existsByPostIdAndUserId(testPost.getId(), 2L));
+        assertEquals(2L, likeRepository.countByPostId(testPost.getId()));
+        assertEquals(2L, postRepository.findLikeCountById(testPost.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소가 섞여도 DB 의 좋아요 수는 Redis 에서 바뀐 만큼만 움직인다.")
+    void flushAppliesScriptDeltas() {
+        // given
+        likeService.like(testPost.getId(), 1L);
+        likeService.like(testPost.getId(), 1L);
+        likeService.like(testPost.getId(), 2L);
+        likeService.unlike(testPost.getId(), 2L);
+        likeService.unlike(testPost.getId(), 3L);
+        likeService.like(testPost.getId(), 3L);
+
+        // when
+        likeWriteBehindQueue.flush();
+
+        // then
+        assertEquals(2L, postRepository.findLikeCountById(testPost.getId()).orElseThrow());
+        assertEquals(2L, likeRepository.countByPostId(testPost.getId()));
+        assertFalse(likeRepository.existsByPostIdAndUserId(testPost.getId(), 2L));
+    }
+
+    @Test
+    @DisplayName("불러온 좋아요 사용자 집합에는 만료 시간이 있어야 한다.")
+    void likersExpire() {
+        // when
+        likeService.toggle(testPost.getId(), 1L);
+
+        // then
+        Long ttl = redisTemplate.getExpire(RedisLikeService.POST_LIKERS_PRESET + testPost.getId());
+        assertNotNull(ttl);
+        assertTrue(ttl > 0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요를 누르면 예외가 발생해야 한다.")
+    void toggleNonExistentPost() {
+        assertThrows(PostException.PostNotExistException.class, () -> likeService.toggle(999L, 1L));
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("spring.data.redis.host", () -> "localhost");
+    }
+
+    @TestConfiguration
+    static class TestRedisConfiguration {
+        @Bean
+        public RedisConnectionFactory redisConnectionFactory() {
+            RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", redisPort);
+            return new LettuceConnectionFactory(configuration);
+        }
+    }
+}
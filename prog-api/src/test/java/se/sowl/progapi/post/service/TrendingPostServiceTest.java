@@ -1,6 +1,5 @@
 package se.sowl.progapi.post.service;
 
-import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -17,6 +16,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import redis.embedded.RedisServer;
+import se.sowl.progapi.interest.service.InterestService;
 import se.sowl.progapi.post.dto.PostResponse;
 import se.sowl.progdomain.interest.domain.Interest;
 import se.sowl.progdomain.interest.repository.InterestRepository;
@@ -28,29 +28,31 @@ import java.lang.reflect.Field;
 import java.net.ServerSocket;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
 
 @SpringBootTest
-@Transactional
 class TrendingPostServiceTest {
 
     @Autowired
     private TrendingPostService trendingPostService;
 
+    @Autowired
+    private TrendingScoreService trendingScoreService;
+
     @Autowired
     private PostRepository postRepository;
 
     @Autowired
     private InterestRepository interestRepository;
 
-    @MockBean
-    private PostViewService postViewService;
+    @Autowired
+    private InterestService interestService;
 
     @MockBean
     private LikeService likeService;
@@ -91,8 +93,13 @@ class TrendingPostServiceTest {
         postRepository.deleteAll();
         interestRepository.deleteAll();
         interests = createInterests(10);
-        when(postViewService.getViewCount(anyLong())).thenReturn(0L);
-        when(likeService.getLikeCount(anyLong())).thenReturn(0L);
+    }
+
+    // 점수 반영이 커밋 뒤로 미뤄지므로 테스트를 트랜잭션으로 감싸지 않고 직접 정리한다.
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        interestRepository.deleteAll();
     }
 
     private List<Interest> createInterests(int count) {
@@ -128,19 +135,69 @@ class TrendingPostServiceTest {
             // given
             List<Post> posts = createTestPosts(50);
             for (Post post : posts) {
-                when(postViewService.getViewCount(post.getId())).thenReturn(100L);
-                when(likeService.getLikeCount(post.getId())).thenReturn(50L);
-                trendingPostService.updatePostScore(post.getId());
+                trendingScoreService.recordLike(post.getId(), 1);
             }
+            trendingScoreService.refreshTrendingPosts();
             Pageable pageable = PageRequest.of(0, 10);
 
             // when
-            Page<PostResponse> result = trendingPostService.getTrendingPosts(pageable);
+            Page<PostResponse> result = trendingPostService.getTrendingPosts(1L, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(10);
         }
 
+        @Test
+        @DisplayName("요청한 페이지 구간의 게시물을 순위 순서대로 반환한다")
+        void getTrendingPostsInRankOrder() {
+            // given
+            List<Post> posts = createTestPosts(30);
+            for (int i = 0; i < posts.size(); i++) {
+                trendingScoreService.recordLike(posts.get(i).getId(), i + 1);
+            }
+            trendingScoreService.refreshTrendingPosts();
+            Pageable pageable = PageRequest.of(1, 10);
+
+            // when
+            Page<PostResponse> result = trendingPostService.getTrendingPosts(1L, pageable);
+
+            // then
+            List<Long> expectedIds = posts.subList(10, 20).stream()
+                    .map(Post::getId)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            assertThat(result.getContent()).extracting(PostResponse::getId).containsExactlyElementsOf(expectedIds);
+            assertThat(result.getTotalElements()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("관심사를 지정하면 그 관심사의 게시물만 순위 순서대로 반환한다")
+        void getTrendingPostsByInterest() {
+            // given
+            List<Post> posts = createTestPosts(30);
+            for (int i = 0; i < posts.size(); i++) {
+                Post post = posts.get(i);
+                trendingScoreService.registerPost(post.getId(), post.getInterest().getId(), post.getCreatedAt());
+                trendingScoreService.recordLike(post.getId(), i + 1);
+            }
+            interestService.refresh();
+            trendingScoreService.refreshTrendingPosts();
+            Interest interest = interests.get(0);
+            Pageable pageable = PageRequest.of(0, 10);
+
+            // when
+            Page<PostResponse> result = trendingPostService.getTrendingPosts(1L, interest.getId(), pageable);
+
+            // then
+            List<Long> expectedIds = posts.stream()
+                    .filter(post -> post.getInterest().getId().equals(interest.getId()))
+                    .map(Post::getId)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            assertThat(result.getContent()).extracting(PostResponse::getId).containsExactlyElementsOf(expectedIds);
+            assertThat(result.getTotalElements()).isEqualTo(expectedIds.size());
+        }
+
         @Test
         @DisplayName("트렌딩 게시물이 없는 경우 빈 리스트를 반환한다")
         void getTrendingPostsWhenNoPostsExist() {
@@ -148,7 +205,7 @@ class TrendingPostServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
 
             // when
-            Page<PostResponse> result = trendingPostService.getTrendingPosts(pageable);
+            Page<PostResponse> result = trendingPostService.getTrendingPosts(1L, pageable);
 
             // then
             assertThat(result).isEmpty();
@@ -156,24 +213,125 @@ class TrendingPostServiceTest {
     }
 
     @Nested
-    @DisplayName("updatePostScore 메서드 테스트")
-    class UpdatePostScoreTest {
+    @DisplayName("refreshTrendingPosts 메서드 테스트")
+    class RefreshTrendingPostsTest {
 
         @Test
-        @DisplayName("게시물 점수를 업데이트할 수 있다")
-        void updatePostScore() {
+        @DisplayName("현재 시간대의 조회수와 좋아요가 가중치대로 점수에 반영된다")
+        void refreshWithCurrentEvents() {
             // given
             Post post = createTestPosts(1).get(0);
-            when(postViewService.getViewCount(post.getId())).thenReturn(100L);
-            when(likeService.getLikeCount(post.getId())).thenReturn(50L);
+            trendingScoreService.recordViews(Map.of(post.getId(), 100L));
+            trendingScoreService.recordLike(post.getId(), 50);
 
             // when
-            trendingPostService.updatePostScore(post.getId());
+            trendingScoreService.refreshTrendingPosts();
 
             // then
             Double score = redisTemplate.opsForZSet().score(TRENDING_POSTS_KEY, post.getId().toString());
             assertThat(score).isEqualTo(200.0); // 100 * 1.0 + 50 * 2.0
         }
+
+        @Test
+        @DisplayName("오래된 시간대의 점수는 반감기에 따라 줄어든다")
+        void refreshWithDecayedEvents() {
+            // given
+            List<Post> posts = createTestPosts(2);
+            Post oldViralPost = posts.get(0);
+            Post freshPost = posts.get(1);
+            long currentBucket = TrendingScoreService.currentBucket();
+            redisTemplate.opsForZSet().incrementScore(
+                    TrendingScoreService.bucketKey(currentBucket - 12), oldViralPost.getId().toString(), 300.0);
+            trendingScoreService.recordLike(freshPost.getId(), 50);
+
+            // when
+            trendingScoreService.refreshTrendingPosts();
+
+            // then
+            Double oldScore = redisTemplate.opsForZSet().score(TRENDING_POSTS_KEY, oldViralPost.getId().toString());
+            assertThat(oldScore).isEqualTo(75.0); // 300 * 0.5^(12 / 6)
+            Set<String> ranking = redisTemplate.opsForZSet().reverseRange(TRENDING_POSTS_KEY, 0, -1);
+            assertThat(ranking).containsExactly(freshPost.getId().toString(), oldViralPost.getId().toString());
+        }
+
+        @Test
+        @DisplayName("점수가 쌓인 게시물이 없으면 트렌딩 목록이 비워진다")
+        void refreshWithoutEvents() {
+            // given
+            redisTemplate.opsForZSet().add(TRENDING_POSTS_KEY, "1", 10.0);
+
+            // when
+            trendingScoreService.refreshTrendingPosts();
+
+            // then
+            assertThat(redisTemplate.hasKey(TRENDING_POSTS_KEY)).isFalse();
+        }
+
+        @Test
+        @DisplayName("합친 결과로 바꾼 트렌딩 목록에는 임시 키의 만료가 남지 않는다")
+        void refreshKeepsTrendingKeyPersistent() {
+            // given
+            Post post = createTestPosts(1).get(0);
+            trendingScoreService.recordLike(post.getId(), 1);
+
+            // when
+            trendingScoreService.refreshTrendingPosts();
+
+            // then
+            assertThat(redisTemplate.getExpire(TRENDING_POSTS_KEY)).isEqualTo(-1L);
+            assertThat(redisTemplate.keys(TRENDING_POSTS_KEY + ":merge:*")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("관심사별 게시글 집합에 없던 게시물도 DB 에서 한 번 채워서 관심사 랭킹에 오른다")
+        void backfillInterestMembers() {
+            // given
+            List<Post> posts = createTestPosts(20);
+            for (Post post : posts) {
+                trendingScoreService.recordLike(post.getId(), 1);
+            }
+            interestService.refresh();
+            Interest interest = interests.get(0);
+
+            // when
+            trendingScoreService.backfillInterestMembers();
+            trendingScoreService.refreshTrendingPosts();
+
+            // then
+            List<String> expectedIds = posts.stream()
+                    .filter(post -> post.getInterest().getId().equals(interest.getId()))
+                    .map(post -> post.getId().toString())
+                    .toList();
+            assertThat(redisTemplate.opsForZSet().range(TrendingScoreService.TRENDING_INTEREST_PRESET + interest.getId(), 0, -1))
+                    .containsExactlyInAnyOrderElementsOf(expectedIds);
+        }
+
+        @Test
+        @DisplayName("삭제된 게시물은 트렌딩과 관심사 랭킹에서 빠지고 다시 올라오지 않는다")
+        void removeDeletedPosts() {
+            // given
+            List<Post> posts = createTestPosts(2);
+            for (Post post : posts) {
+                trendingScoreService.registerPost(post.getId(), post.getInterest().getId(), post.getCreatedAt());
+                trendingScoreService.recordLike(post.getId(), 1);
+            }
+            interestService.refresh();
+            trendingScoreService.refreshTrendingPosts();
+            Post deleted = posts.get(0);
+            deleted.softDelete();
+            postRepository.save(deleted);
+
+            // when
+            trendingScoreService.removePosts(List.of(deleted));
+            Set<String> rankingAfterRemove = redisTemplate.opsForZSet().range(TRENDING_POSTS_KEY, 0, -1);
+            trendingScoreService.refreshTrendingPosts();
+
+            // then
+            assertThat(rankingAfterRemove).containsExactly(posts.get(1).getId().toString());
+            assertThat(redisTemplate.opsForZSet().range(TRENDING_POSTS_KEY, 0, -1)).containsExactly(posts.get(1).getId().toString());
+            assertThat(redisTemplate.opsForZSet().range(TrendingScoreService.TRENDING_INTEREST_PRESET + deleted.getInterest().getId(), 0, -1))
+                    .doesNotContain(deleted.getId().toString());
+        }
     }
 
     @Nested
@@ -199,8 +357,9 @@ class TrendingPostServiceTest {
             allPosts.addAll(recentPosts);
 
             for (Post post : allPosts) {
-                trendingPostService.updatePostScore(post.getId());
+                trendingScoreService.recordLike(post.getId(), 1);
             }
+            trendingScoreService.refreshTrendingPosts();
 
             // when
             trendingPostService.cleanupOldPosts();
@@ -215,6 +374,23 @@ class TrendingPostServiceTest {
                 assertThat(remainingPosts).doesNotContain(post.getId().toString());
             }
         }
+
+        @Test
+        @DisplayName("작성 시각 보조 집합만으로 만료된 게시물을 정리한다")
+        void cleanupByCreatedAtIndex() {
+            // given
+            redisTemplate.opsForZSet().add(TRENDING_POSTS_KEY, "1", 10.0);
+            redisTemplate.opsForZSet().add(TRENDING_POSTS_KEY, "2", 20.0);
+            trendingScoreService.registerPost(1L, 1L, LocalDateTime.now().minusMonths(2));
+            trendingScoreService.registerPost(2L, 1L, LocalDateTime.now());
+
+            // when
+            trendingPostService.cleanupOldPosts();
+
+            // then
+            assertThat(redisTemplate.opsForZSet().range(TRENDING_POSTS_KEY, 0, -1)).containsExactly("2");
+            assertThat(redisTemplate.opsForZSet().range(TrendingScoreService.TRENDING_CREATED_AT_KEY, 0, -1)).containsExactly("2");
+        }
     }
 
     private static int findAvailablePort() throws IOException {
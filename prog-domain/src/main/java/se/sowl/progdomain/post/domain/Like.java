@@ -8,7 +8,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "likes")
+@Table(name = "likes", indexes = {
+        @Index(name = "idx_likes_user_id_created_at_id", columnList = "user_id, created_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_post_id_user_id", columnNames = {"post_id", "user_id"})
+})
 @RequiredArgsConstructor
 public class Like {
     @Id
@@ -26,7 +30,7 @@ public class Like {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        createdAt = PostTimestamps.now();
     }
 
     public Like(Long postId, Long userId) {
@@ -10,7 +10,10 @@ import se.sowl.progdomain.interest.domain.Interest;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_deleted_created_at_id", columnList = "deleted, created_at, id"),
+        @Index(name = "idx_posts_interest_id_deleted_created_at_id", columnList = "interest_id, deleted, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
@@ -24,7 +27,8 @@ public class Post {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // 목록은 프로젝션으로 읽으므로 관심사가 필요한 조회만 엔티티 그래프로 함께 가져온다.
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "interest_id", nullable = false)
     private Interest interest;
 
@@ -43,6 +47,18 @@ public class Post {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 좋아요 수 역정규화 컬럼. 증감은 PostRepository.incrementLikeCount 로만 한다.
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0;
+
+    // 조회수는 Redis 에 먼저 쌓이고 PostViewCountPersister 가 주기적으로 더한다.
+    @Column(name = "view_count", nullable = false)
+    private long viewCount = 0;
+
+    // 마지막으로 조회수를 더한 반영 묶음. 같은 묶음을 다시 반영해도 두 번 더해지지 않게 PostViewCountPersister 만 쓴다.
+    @Column(name = "view_flush_batch", insertable = false, updatable = false)
+    private Long viewFlushBatch;
+
     @OneToOne(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private PostContent postContent;
 
@@ -76,7 +92,7 @@ public class Post {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        createdAt = PostTimestamps.now();
     }
 
     @PreUpdate
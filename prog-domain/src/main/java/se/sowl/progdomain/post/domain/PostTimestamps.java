@@ -0,0 +1,28 @@
+package se.sowl.progdomain.post.domain;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 작성 시각과 Redis 정렬 점수를 모두 DB 컬럼 정밀도인 마이크로초로 맞춘다.
+// 단위가 하나라도 다르면 DB 의 (created_at desc, id desc) 순서와 Redis 순서, 커서 비교가 서로 어긋난다.
+public final class PostTimestamps {
+
+    private PostTimestamps() {
+    }
+
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // epoch 마이크로초는 2^53 보다 작아 double 점수로 옮겨도 값이 바뀌지 않는다.
+    public static long toScore(LocalDateTime createdAt) {
+        Instant instant = createdAt.atZone(ZoneId.systemDefault()).toInstant();
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    public static LocalDateTime fromScore(double score) {
+        return LocalDateTime.ofInstant(Instant.EPOCH.plus((long) score, ChronoUnit.MICROS), ZoneId.systemDefault());
+    }
+}
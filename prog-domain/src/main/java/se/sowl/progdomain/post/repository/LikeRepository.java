@@ -1,10 +1,15 @@
 package se.sowl.progdomain.post.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import se.sowl.progdomain.post.domain.Like;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -14,9 +19,45 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     long countByPostId(Long postId);
 
-    Optional<Like> findByPostIdAndUserId(Long postId, Long userId);
-    Page<Like> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @Query("SELECT l.postId FROM Like l WHERE l.userId = :userId AND l.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT l.userId FROM Like l WHERE l.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    // (post_id, user_id) 유니크 제약에 걸리면 무시하므로 새로 추가된 경우에만 1을 반환한다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (post_id, user_id, created_at) VALUES (:postId, :userId, :createdAt)", nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("postId") Long postId, @Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Query(value = "SELECT p.id AS id, p.title AS title, p.userId AS userId, p.thumbnailUrl AS thumbnailUrl, " +
+            "p.createdAt AS createdAt, p.likeCount AS likeCount, l.id AS likeId, l.createdAt AS likedAt " +
+            "FROM Like l JOIN Post p ON p.id = l.postId " +
+            "WHERE l.userId = :userId AND p.deleted = false " +
+            "ORDER BY l.createdAt DESC, l.id DESC",
+            countQuery = "SELECT COUNT(l) FROM Like l JOIN Post p ON p.id = l.postId " +
+                    "WHERE l.userId = :userId AND p.deleted = false")
+    Page<LikedPost> findLikedPostsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.userId AS userId, p.thumbnailUrl AS thumbnailUrl, " +
+            "p.createdAt AS createdAt, p.likeCount AS likeCount, l.id AS likeId, l.createdAt AS likedAt " +
+            "FROM Like l JOIN Post p ON p.id = l.postId " +
+            "WHERE l.userId = :userId AND p.deleted = false " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LikedPost> findLikedPostSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.userId AS userId, p.thumbnailUrl AS thumbnailUrl, " +
+            "p.createdAt AS createdAt, p.likeCount AS likeCount, l.id AS likeId, l.createdAt AS likedAt " +
+            "FROM Like l JOIN Post p ON p.id = l.postId " +
+            "WHERE l.userId = :userId AND p.deleted = false " +
+            "AND (l.createdAt < :likedAt OR (l.createdAt = :likedAt AND l.id < :likeId)) " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LikedPost> findLikedPostSliceByUserIdBefore(
+            @Param("userId") Long userId, @Param("likedAt") LocalDateTime likedAt, @Param("likeId") Long likeId, Pageable pageable);
 
     List<Like> findAllByUserId(Long userId);
 }
-
@@ -0,0 +1,9 @@
+package se.sowl.progdomain.post.repository;
+
+import java.time.LocalDateTime;
+
+public interface LikedPost extends PostSummary {
+    Long getLikeId();
+
+    LocalDateTime getLikedAt();
+}
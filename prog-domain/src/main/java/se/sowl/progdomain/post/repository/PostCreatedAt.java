@@ -0,0 +1,11 @@
+package se.sowl.progdomain.post.repository;
+
+import java.time.LocalDateTime;
+
+public interface PostCreatedAt {
+    Long getId();
+
+    Long getInterestId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,7 @@
+package se.sowl.progdomain.post.repository;
+
+public interface PostLikeCount {
+    Long getPostId();
+
+    long getLikeCount();
+}
@@ -0,0 +1,9 @@
+package se.sowl.progdomain.post.repository;
+
+public interface PostLikeCountDrift {
+    Long getPostId();
+
+    long getLikeCount();
+
+    long getActualLikeCount();
+}
@@ -2,22 +2,106 @@ package se.sowl.progdomain.post.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import se.sowl.progdomain.post.domain.Post;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.IntPredicate;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findAllByDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
+    String SELECT_SUMMARY = "SELECT p.id AS id, p.title AS title, p.userId AS userId, p.thumbnailUrl AS thumbnailUrl, " +
+            "p.createdAt AS createdAt, p.likeCount AS likeCount FROM Post p ";
 
-    List<Post> findByCreatedAtBefore(LocalDateTime oneMonthAgo);
+    @Query(value = SELECT_SUMMARY + "WHERE p.deleted = false ORDER BY p.createdAt DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.deleted = false")
+    Page<PostSummary> findSummaryPage(Pageable pageable);
 
-    Page<Post> findAllByIdInAndDeletedFalse(List<Long> id, Pageable pageable);
+    @Query(SELECT_SUMMARY + "WHERE p.deleted = false ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSummarySlice(Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE p.deleted = false " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSummarySliceBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.interest.id AS interestId, p.createdAt AS createdAt FROM Post p " +
+            "WHERE p.deleted = false AND p.id IN :ids")
+    List<PostCreatedAt> findCreatedAtByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.interest.id AS interestId, p.createdAt AS createdAt FROM Post p " +
+            "WHERE p.deleted = false AND p.createdAt >= :createdAt AND p.id > :id ORDER BY p.id")
+    List<PostCreatedAt> findCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.interest.id AS interestId, p.createdAt AS createdAt FROM Post p " +
+            "WHERE p.deleted = false ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCreatedAt> findRecentCreatedAt(Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.interest.id AS interestId, p.createdAt AS createdAt FROM Post p " +
+            "WHERE p.interest.id = :interestId AND p.deleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCreatedAt> findRecentCreatedAtByInterestId(@Param("interestId") Long interestId, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARY + "WHERE p.interest.id = :interestId AND p.deleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.interest.id = :interestId AND p.deleted = false")
+    Page<PostSummary> findSummaryPageByInterestId(@Param("interestId") Long interestId, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE p.interest.id = :interestId AND p.deleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSummarySliceByInterestId(@Param("interestId") Long interestId, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE p.interest.id = :interestId AND p.deleted = false " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSummarySliceByInterestIdBefore(
+            @Param("interestId") Long interestId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE p.deleted = false AND p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"interest", "postContent"})
+    Optional<Post> findWithContentById(Long id);
 
     boolean existsByIdAndDeletedFalse(Long id);
 
+    long countByDeletedFalse();
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId AND p.deleted = false")
+    int incrementLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findLikeCountById(@Param("postId") Long postId);
+
+    @Query("SELECT p.id AS postId, p.likeCount AS likeCount FROM Post p WHERE p.id IN :postIds")
+    List<PostLikeCount> findLikeCountsByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 컬럼과 좋아요 행 수를 한 문장에서 읽어야 같은 시점의 값끼리 비교된다.
+    @Query("SELECT p.id AS postId, p.likeCount AS likeCount, " +
+            "(SELECT COUNT(l) FROM Like l WHERE l.postId = p.id) AS actualLikeCount FROM Post p " +
+            "WHERE p.id BETWEEN :fromId AND :toId AND p.deleted = false " +
+            "AND p.likeCount <> (SELECT COUNT(l) FROM Like l WHERE l.postId = p.id)")
+    List<PostLikeCountDrift> findLikeCountDrifts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 읽은 뒤에 좋아요가 바뀌었다면 컬럼이 달라져 있으므로 건너뛰고 다음 동기화에 맡긴다.
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = :actualLikeCount WHERE p.id = :postId AND p.likeCount = :likeCount")
+    int correctLikeCount(@Param("postId") Long postId, @Param("likeCount") long likeCount, @Param("actualLikeCount") long actualLikeCount);
+
+    @Query("SELECT MIN(p.id) FROM Post p")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Optional<Long> findMaxId();
+
     void deleteAllByUserId(Long userId);
 
     List<Post> findAllByUserId(Long userId);
@@ -0,0 +1,18 @@
+package se.sowl.progdomain.post.repository;
+
+import java.time.LocalDateTime;
+
+// 목록 응답에 필요한 컬럼만 읽는 읽기 전용 프로젝션. 영속성 컨텍스트에 올라가지 않는다.
+public interface PostSummary {
+    Long getId();
+
+    String getTitle();
+
+    Long getUserId();
+
+    String getThumbnailUrl();
+
+    LocalDateTime getCreatedAt();
+
+    Long getLikeCount();
+}